@@ -0,0 +1,30 @@
+package mate.academy.spring.boot.cart;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
+
+public record CartItemChange(Long bookId, int quantity, boolean increment) {
+    public static List<CartItemChange> fold(List<CartItemOperationDto> operations) {
+        Map<Long, CartItemChange> changes = new LinkedHashMap<>();
+        for (CartItemOperationDto operation : operations) {
+            Long bookId = operation.getBookId();
+            CartItemChange previous = changes.get(bookId);
+            CartItemChange change = switch (operation.getOperation()) {
+                case ADD -> previous == null
+                        ? new CartItemChange(bookId, operation.getQuantity(), true)
+                        : new CartItemChange(bookId,
+                                previous.quantity + operation.getQuantity(), previous.increment);
+                case UPDATE -> new CartItemChange(bookId, operation.getQuantity(), false);
+                case REMOVE -> new CartItemChange(bookId, 0, false);
+            };
+            changes.put(bookId, change);
+        }
+        return List.copyOf(changes.values());
+    }
+
+    public boolean isRemoval() {
+        return !increment && quantity == 0;
+    }
+}
@@ -0,0 +1,148 @@
+package mate.academy.spring.boot.cart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Records hold the resulting quantity, so replaying a flushed segment is harmless.
+class CartJournal implements Closeable {
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("cart-journal-(\\d+)\\.log");
+    private final Path directory;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appended;
+    private volatile long synced;
+    private IOException syncFailure;
+    private long segment;
+    private FileChannel channel;
+
+    CartJournal(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segment = getSegments().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        this.channel = open(segment);
+    }
+
+    synchronized long append(CartJournalRecord record) {
+        pending.writeBytes(record.format().getBytes(StandardCharsets.US_ASCII));
+        return ++appended;
+    }
+
+    void sync(long sequence) throws IOException {
+        if (synced >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            // a writer queued behind a running fsync is often covered by it already
+            if (synced < sequence) {
+                synced = writePending();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    long roll() throws IOException {
+        syncLock.lock();
+        try {
+            synced = writePending();
+            channel.close();
+            channel = open(++segment);
+            return segment - 1;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    List<CartJournalRecord> readUpTo(long lastSegment) throws IOException {
+        List<CartJournalRecord> records = new ArrayList<>();
+        for (Long number : getSegments()) {
+            if (number <= lastSegment) {
+                readSegment(getPath(number), records);
+            }
+        }
+        return records;
+    }
+
+    void deleteUpTo(long lastSegment) throws IOException {
+        for (Long number : getSegments()) {
+            if (number <= lastSegment) {
+                Files.deleteIfExists(getPath(number));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        syncLock.lock();
+        try {
+            synced = writePending();
+            channel.close();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long writePending() throws IOException {
+        if (syncFailure != null) {
+            throw new IOException("The cart journal failed to sync earlier", syncFailure);
+        }
+        byte[] records;
+        long sequence;
+        synchronized (this) {
+            records = pending.toByteArray();
+            pending.reset();
+            sequence = appended;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            syncFailure = e;
+            throw e;
+        }
+        return sequence;
+    }
+
+    private void readSegment(Path path, List<CartJournalRecord> records) throws IOException {
+        String content = Files.readString(path, StandardCharsets.US_ASCII);
+        // a record torn by a crash has no line terminator and is always the last one
+        content.substring(0, content.lastIndexOf('\n') + 1).lines()
+                .map(CartJournalRecord::parse)
+                .forEach(records::add);
+    }
+
+    private List<Long> getSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_PATTERN.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(getPath(number), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path getPath(long number) {
+        return directory.resolve("cart-journal-" + number + ".log");
+    }
+}
@@ -0,0 +1,13 @@
+package mate.academy.spring.boot.cart;
+
+record CartJournalRecord(long cartId, long bookId, int quantity) {
+    static CartJournalRecord parse(String line) {
+        String[] fields = line.split(",");
+        return new CartJournalRecord(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                Integer.parseInt(fields[2]));
+    }
+
+    String format() {
+        return cartId + "," + bookId + "," + quantity + "\n";
+    }
+}
@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.cart;
+
+public record CartLine(Long id, Long bookId, String bookTitle, int quantity) {
+}
@@ -0,0 +1,8 @@
+package mate.academy.spring.boot.cart;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record CartSnapshot(Long id, Long userId, List<CartLine> lines, int itemCount,
+                           BigDecimal subtotal) {
+}
@@ -0,0 +1,53 @@
+package mate.academy.spring.boot.cart;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.event.BookSavedEvent;
+import mate.academy.spring.boot.event.BooksImportedEvent;
+import mate.academy.spring.boot.repository.book.BookPriceRow;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.shoppingcart.ShoppingCartRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class CartTotalsUpdater {
+    private static final int BATCH_SIZE = 1000;
+    private final ShoppingCartRepository shoppingCartRepository;
+    private final BookRepository bookRepository;
+    private final ObjectProvider<WriteBehindCartStore> cartStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBookSaved(BookSavedEvent event) {
+        BookDto book = event.book();
+        updatePrices(Map.of(book.getId(), book.getPrice()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBooksImported(BooksImportedEvent event) {
+        List<String> isbns = event.isbns();
+        for (int from = 0; from < isbns.size(); from += BATCH_SIZE) {
+            updatePrices(bookRepository.findPricesByIsbnIn(isbns.subList(from,
+                            Math.min(from + BATCH_SIZE, isbns.size()))).stream()
+                    .collect(Collectors.toMap(BookPriceRow::id, BookPriceRow::price)));
+        }
+    }
+
+    private void updatePrices(Map<Long, BigDecimal> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        shoppingCartRepository.refreshTotalsByBookIds(prices.keySet());
+        cartStore.ifAvailable(store -> store.updatePrices(prices));
+    }
+}
@@ -0,0 +1,425 @@
+package mate.academy.spring.boot.cart;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.shoppingcart.ShoppingCartRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "true")
+@Component
+public class WriteBehindCartStore implements SmartInitializingSingleton, DisposableBean {
+    private static final String SELECT_ITEMS = "SELECT ci.id, ci.book_id, b.title, b.price,"
+            + " ci.quantity"
+            + " FROM cart_items ci JOIN books b ON b.id = ci.book_id"
+            + " WHERE ci.shopping_cart_id = ?";
+    private static final String SELECT_ITEM_IDS = "SELECT id, book_id FROM cart_items"
+            + " WHERE shopping_cart_id = ?";
+    private static final String UPSERT_ITEM = "INSERT INTO cart_items"
+            + " (shopping_cart_id, book_id, quantity) VALUES (?, ?, ?) AS new"
+            + " ON DUPLICATE KEY UPDATE quantity = new.quantity";
+    private static final String DELETE_ITEM = "DELETE FROM cart_items"
+            + " WHERE shopping_cart_id = ? AND book_id = ?";
+    private final Map<Long, CachedCart> carts = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final CartJournal journal;
+    private final Duration idleTimeout;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShoppingCartRepository shoppingCartRepository;
+
+    public WriteBehindCartStore(@Value("${cart.write-behind.stripes}") int stripes,
+                                @Value("${cart.write-behind.journal-path}") Path journalPath,
+                                @Value("${cart.write-behind.idle-timeout}") Duration idleTimeout,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                ShoppingCartRepository shoppingCartRepository)
+            throws IOException {
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.journal = new CartJournal(journalPath);
+        this.idleTimeout = idleTimeout;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shoppingCartRepository = shoppingCartRepository;
+    }
+
+    public CartSnapshot get(Long userId) {
+        return withCart(userId, CachedCart::toSnapshot);
+    }
+
+    public CartSnapshot add(Long userId, Book book, int quantity) {
+        return withCart(userId, cart -> {
+            CachedItem item = cart.items.computeIfAbsent(book.getId(),
+                    id -> new CachedItem(null, book.getTitle(), book.getPrice(), 0));
+            write(cart, book.getId(), item, item.quantity + quantity);
+            return cart.toSnapshot();
+        });
+    }
+
+    public CartSnapshot apply(Long userId, List<CartItemChange> changes, Map<Long, Book> books) {
+        return withCart(userId, cart -> {
+            for (CartItemChange change : changes) {
+                CachedItem item = cart.items.get(change.bookId());
+                if (item == null && change.isRemoval()) {
+                    continue;
+                }
+                if (item == null) {
+                    Book book = books.get(change.bookId());
+                    item = new CachedItem(null, book.getTitle(), book.getPrice(), 0);
+                    cart.items.put(change.bookId(), item);
+                }
+                write(cart, change.bookId(), item, change.increment()
+                        ? item.quantity + change.quantity() : change.quantity());
+            }
+            return cart.toSnapshot();
+        });
+    }
+
+    public CartSnapshot update(Long userId, Long itemId, int quantity) {
+        return withCart(userId, cart -> {
+            Map.Entry<Long, CachedItem> entry = cart.getItem(itemId);
+            write(cart, entry.getKey(), entry.getValue(), quantity);
+            return cart.toSnapshot();
+        });
+    }
+
+    public void remove(Long userId, Long itemId) {
+        withCart(userId, cart -> {
+            Map.Entry<Long, CachedItem> entry = cart.getItem(itemId);
+            write(cart, entry.getKey(), entry.getValue(), 0);
+            return null;
+        });
+    }
+
+    public void updatePrices(Map<Long, BigDecimal> prices) {
+        for (CachedCart cart : carts.values()) {
+            locked(cart.userId, () -> {
+                cart.items.forEach((bookId, item) -> {
+                    if (prices.containsKey(bookId)) {
+                        item.price = prices.get(bookId);
+                    }
+                });
+                return null;
+            });
+        }
+    }
+
+    public void flush(Long userId) {
+        CachedCart cart = carts.get(userId);
+        if (cart != null) {
+            flushCarts(List.of(cart));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval}")
+    public void flush() {
+        long flushedSegment;
+        try {
+            flushedSegment = journal.roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't roll the cart journal", e);
+        }
+        flushCarts(carts.values());
+        try {
+            journal.deleteUpTo(flushedSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't delete flushed cart journal segments", e);
+        }
+        evictIdleCarts();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            long lastSegment = journal.roll();
+            Map<List<Long>, CartJournalRecord> latest = new LinkedHashMap<>();
+            for (CartJournalRecord record : journal.readUpTo(lastSegment)) {
+                latest.put(List.of(record.cartId(), record.bookId()), record);
+            }
+            latest.values().stream()
+                    .collect(Collectors.groupingBy(CartJournalRecord::cartId,
+                            LinkedHashMap::new, Collectors.toList()))
+                    .values()
+                    .forEach(this::writeCart);
+            journal.deleteUpTo(lastSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't replay the cart journal", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        flush();
+        journal.close();
+    }
+
+    private <T> T withCart(Long userId, Function<CachedCart, T> action) {
+        Journaled<T> journaled = locked(userId, () -> {
+            CachedCart cart = carts.get(userId);
+            if (cart == null) {
+                cart = load(userId);
+                carts.put(userId, cart);
+            }
+            cart.lastAccess = System.nanoTime();
+            T result = action.apply(cart);
+            return new Journaled<>(result, cart.journaled);
+        });
+        try {
+            journal.sync(journaled.sequence());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't journal the cart change", e);
+        }
+        return journaled.result();
+    }
+
+    private void write(CachedCart cart, Long bookId, CachedItem item, int quantity) {
+        cart.journaled = journal.append(new CartJournalRecord(cart.id, bookId, quantity));
+        item.quantity = quantity;
+        item.version++;
+    }
+
+    private synchronized void flushCarts(Iterable<CachedCart> dirtyCarts) {
+        for (CachedCart cart : dirtyCarts) {
+            PendingCart pending = locked(cart.userId, cart::toPending);
+            if (!pending.records.isEmpty()) {
+                flushCart(pending);
+            }
+        }
+    }
+
+    private void flushCart(PendingCart pending) {
+        Set<Long> droppedBookIds = writeCart(pending.records);
+        Map<Long, Long> itemIds = pending.hasNewItems ? selectItemIds(pending.cart.id) : Map.of();
+        CachedCart cart = pending.cart;
+        locked(cart.userId, () -> {
+            cart.markFlushed(pending.versions, itemIds);
+            if (!droppedBookIds.isEmpty() && !cart.isDirty()) {
+                carts.remove(cart.userId);
+            }
+            return null;
+        });
+    }
+
+    private Set<Long> writeCart(List<CartJournalRecord> records) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeRecords(records));
+            return Set.of();
+        } catch (DataIntegrityViolationException e) {
+            return writeRowByRow(records);
+        }
+    }
+
+    private Set<Long> writeRowByRow(List<CartJournalRecord> records) {
+        Set<Long> droppedBookIds = new HashSet<>();
+        for (CartJournalRecord record : records) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        writeRecords(List.of(record)));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Dropping cart {} write of book {}: {}", record.cartId(),
+                        record.bookId(), e.getMostSpecificCause().getMessage());
+                droppedBookIds.add(record.bookId());
+            }
+        }
+        return droppedBookIds;
+    }
+
+    private void writeRecords(List<CartJournalRecord> records) {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Long> cartIds = new HashSet<>();
+        for (CartJournalRecord record : records) {
+            cartIds.add(record.cartId());
+            if (record.quantity() > 0) {
+                upserts.add(new Object[]{record.cartId(), record.bookId(), record.quantity()});
+            } else {
+                deletes.add(new Object[]{record.cartId(), record.bookId()});
+            }
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ITEM, upserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ITEM, deletes);
+        }
+        if (!cartIds.isEmpty()) {
+            shoppingCartRepository.refreshTotals(cartIds);
+        }
+    }
+
+    private Map<Long, Long> selectItemIds(Long cartId) {
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query(SELECT_ITEM_IDS, (RowCallbackHandler) rs ->
+                ids.put(rs.getLong("book_id"), rs.getLong("id")), cartId);
+        return ids;
+    }
+
+    private void evictIdleCarts() {
+        long idleSince = System.nanoTime() - idleTimeout.toNanos();
+        for (CachedCart cart : carts.values()) {
+            locked(cart.userId, () -> {
+                if (cart.lastAccess - idleSince < 0 && !cart.isDirty()) {
+                    carts.remove(cart.userId);
+                }
+                return null;
+            });
+        }
+    }
+
+    private CachedCart load(Long userId) {
+        Long cartId = shoppingCartRepository.findByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("ShoppingCart"
+                        + " not found for user " + userId))
+                .getId();
+        CachedCart cart = new CachedCart(cartId, userId);
+        jdbcTemplate.query(SELECT_ITEMS, (RowCallbackHandler) rs ->
+                cart.items.put(rs.getLong("book_id"), new CachedItem(rs.getLong("id"),
+                        rs.getString("title"), rs.getBigDecimal("price"),
+                        rs.getInt("quantity"))), cartId);
+        return cart;
+    }
+
+    private <T> T locked(Long userId, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(userId.hashCode(), stripes.length)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class CachedCart {
+        private final Long id;
+        private final Long userId;
+        private final Map<Long, CachedItem> items = new LinkedHashMap<>();
+        private long lastAccess = System.nanoTime();
+        private long journaled;
+
+        private CachedCart(Long id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private Map.Entry<Long, CachedItem> getItem(Long itemId) {
+            return items.entrySet().stream()
+                    .filter(entry -> itemId.equals(entry.getValue().id)
+                            && entry.getValue().quantity > 0)
+                    .findFirst()
+                    .orElseThrow(() -> new EntityNotFoundException("CartItem"
+                            + " not found with id " + itemId));
+        }
+
+        private boolean isDirty() {
+            return items.values().stream().anyMatch(CachedItem::isDirty);
+        }
+
+        private CartSnapshot toSnapshot() {
+            List<CartLine> lines = new ArrayList<>();
+            int itemCount = 0;
+            BigDecimal subtotal = BigDecimal.ZERO;
+            for (Map.Entry<Long, CachedItem> entry : items.entrySet()) {
+                CachedItem item = entry.getValue();
+                if (item.quantity > 0) {
+                    lines.add(new CartLine(item.id, entry.getKey(), item.bookTitle,
+                            item.quantity));
+                    itemCount += item.quantity;
+                    subtotal = subtotal.add(item.price.multiply(BigDecimal.valueOf(item.quantity)));
+                }
+            }
+            return new CartSnapshot(id, userId, lines, itemCount, subtotal);
+        }
+
+        private PendingCart toPending() {
+            PendingCart pending = new PendingCart(this);
+            items.forEach((bookId, item) -> {
+                if (item.isDirty()) {
+                    pending.records.add(new CartJournalRecord(id, bookId, item.quantity));
+                    pending.versions.put(bookId, item.version);
+                    pending.hasNewItems |= item.id == null && item.quantity > 0;
+                }
+            });
+            return pending;
+        }
+
+        private void markFlushed(Map<Long, Long> versions, Map<Long, Long> itemIds) {
+            versions.forEach((bookId, version) -> {
+                CachedItem item = items.get(bookId);
+                if (item == null) {
+                    return;
+                }
+                item.flushedVersion = version;
+                if (item.id == null) {
+                    item.id = itemIds.get(bookId);
+                }
+                if (!item.isDirty() && item.quantity == 0) {
+                    items.remove(bookId);
+                }
+            });
+        }
+    }
+
+    private static class CachedItem {
+        private Long id;
+        private final String bookTitle;
+        private BigDecimal price;
+        private int quantity;
+        private long version;
+        private long flushedVersion;
+
+        private CachedItem(Long id, String bookTitle, BigDecimal price, int quantity) {
+            this.id = id;
+            this.bookTitle = bookTitle;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        private boolean isDirty() {
+            return version != flushedVersion;
+        }
+    }
+
+    private static class PendingCart {
+        private final CachedCart cart;
+        private final List<CartJournalRecord> records = new ArrayList<>();
+        private final Map<Long, Long> versions = new HashMap<>();
+        private boolean hasNewItems;
+
+        private PendingCart(CachedCart cart) {
+            this.cart = cart;
+        }
+    }
+
+    private record Journaled<T>(T result, long sequence) {
+    }
+}
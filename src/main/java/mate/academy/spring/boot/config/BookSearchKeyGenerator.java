@@ -0,0 +1,49 @@
+package mate.academy.spring.boot.config;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import mate.academy.spring.boot.dto.book.BookSearchParameters;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component(BookSearchKeyGenerator.NAME)
+public class BookSearchKeyGenerator implements KeyGenerator {
+    public static final String NAME = "bookSearchKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        BookSearchParameters parameters = (BookSearchParameters) params[0];
+        return new BookSearchKey(
+                normalize(parameters.title()),
+                normalize(parameters.author()),
+                normalize(parameters.isbn()),
+                normalize(parameters.minPrice()),
+                normalize(parameters.maxPrice()),
+                normalize(parameters.categoryIds()),
+                (Pageable) params[1]);
+    }
+
+    private <T extends Comparable<T>> List<T> normalize(T[] values) {
+        if (values == null) {
+            return List.of();
+        }
+        return Arrays.stream(values)
+                .filter(Objects::nonNull)
+                .sorted()
+                .distinct()
+                .toList();
+    }
+
+    private BigDecimal normalize(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+
+    private record BookSearchKey(List<String> title, List<String> author, List<String> isbn,
+                                 BigDecimal minPrice, BigDecimal maxPrice,
+                                 List<Long> categoryIds, Pageable pageable) {
+    }
+}
@@ -0,0 +1,38 @@
+package mate.academy.spring.boot.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String BOOKS_CACHE = "books";
+    public static final String BOOK_SEARCHES_CACHE = "bookSearches";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.books.maximum-size}") long booksMaximumSize,
+            @Value("${cache.books.expire-after-write}") Duration booksExpireAfterWrite,
+            @Value("${cache.book-searches.maximum-size}") long bookSearchesMaximumSize,
+            @Value("${cache.book-searches.expire-after-write}")
+            Duration bookSearchesExpireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(BOOKS_CACHE, Caffeine.newBuilder()
+                .maximumSize(booksMaximumSize)
+                .expireAfterWrite(booksExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(BOOK_SEARCHES_CACHE, Caffeine.newBuilder()
+                .maximumSize(bookSearchesMaximumSize)
+                .expireAfterWrite(bookSearchesExpireAfterWrite)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
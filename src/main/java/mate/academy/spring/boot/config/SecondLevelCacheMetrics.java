@@ -0,0 +1,34 @@
+package mate.academy.spring.boot.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+    private static final String HIT_RATIO_METRIC = "hibernate.second.level.cache.hit.ratio";
+    private final SessionFactory sessionFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder(HIT_RATIO_METRIC, statistics, stats -> getHitRatio(stats, region))
+                    .tag("region", region)
+                    .description("Share of second-level cache lookups served by the region")
+                    .register(registry);
+        }
+    }
+
+    private double getHitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? 0 : (double) regionStatistics.getHitCount() / requests;
+    }
+}
@@ -3,18 +3,39 @@ package mate.academy.spring.boot.controller;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.BookBatchDto;
 import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.dto.book.BookExportFormat;
+import mate.academy.spring.boot.dto.book.BookFacetsDto;
+import mate.academy.spring.boot.dto.book.BookIdsRequestDto;
+import mate.academy.spring.boot.dto.book.BookImportResultDto;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
 import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
+import mate.academy.spring.boot.dto.page.CursorPageDto;
+import mate.academy.spring.boot.search.BookSuggestionIndex;
+import mate.academy.spring.boot.service.BookExportService;
+import mate.academy.spring.boot.service.BookImportService;
 import mate.academy.spring.boot.service.BookService;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,24 +47,69 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Tag(name = "Book API")
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/books")
 public class BookController {
+    private static final String HAS_NEXT_HEADER = "X-Has-Next";
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
+    @Value("${books.export.timeout}")
+    private Duration exportTimeout;
 
     @GetMapping
     @Operation(summary = "Get all books")
-    public List<BookDto> getAll(@ParameterObject @PageableDefault Pageable pageable) {
-        return bookService.findAll(pageable);
+    public ResponseEntity<List<BookDto>> getAll(
+            @ParameterObject @PageableDefault Pageable pageable) {
+        return toResponse(bookService.findAll(pageable));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get books by up to 1000 comma-separated ids in request order")
+    public BookBatchDto getAllByIds(@RequestParam @Size(max = 1000) List<Long> ids) {
+        return bookService.findAllByIds(ids);
+    }
+
+    @PostMapping("/by-ids")
+    @Operation(summary = "Get books by up to 10000 ids in request order")
+    public BookBatchDto getAllByIds(@RequestBody @Valid BookIdsRequestDto requestDto) {
+        return bookService.findAllByIds(requestDto.getIds());
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Get all books using keyset pagination")
+    public CursorPageDto<BookDto> scrollAll(@RequestParam(required = false) String after,
+                                           @ParameterObject @PageableDefault Pageable pageable) {
+        return bookService.findAll(after, pageable);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream the whole catalog as NDJSON or CSV")
+    public WebAsyncTask<Void> export(
+            @RequestParam(defaultValue = "NDJSON") BookExportFormat format,
+            HttpServletResponse response) {
+        response.setContentType(format.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=books."
+                + format.getFileExtension());
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            bookExportService.export(format, response.getOutputStream());
+            return null;
+        });
     }
 
     @GetMapping("/{id}")
     @Hidden
-    public BookDto findById(@PathVariable Long id) {
-        return bookService.findById(id);
+    public ResponseEntity<BookDto> findById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = bookService.getEtag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(bookService.findById(id));
     }
 
     @GetMapping("/by-title")
@@ -60,6 +126,20 @@ public class BookController {
         return bookService.save(requestDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Create or update books by isbn from a JSON array")
+    public BookImportResultDto importBooks(@RequestBody List<CreateBookRequestDto> requestDtos) {
+        return bookImportService.importBooks(requestDtos);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Create or update books by isbn from a CSV file")
+    public BookImportResultDto importCsv(InputStream inputStream) throws IOException {
+        return bookImportService.importCsv(inputStream);
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -70,9 +150,40 @@ public class BookController {
 
     @GetMapping("/search")
     @Operation(summary = "Get a books by search params")
-    public List<BookDto> searchBooks(BookSearchParameters searchParameters,
-                                     @ParameterObject @PageableDefault Pageable pageable) {
-        return bookService.searchBooks(searchParameters, pageable);
+    public ResponseEntity<List<BookDto>> searchBooks(
+            BookSearchParameters searchParameters,
+            @ParameterObject @PageableDefault Pageable pageable) {
+        return toResponse(bookService.searchBooks(searchParameters, pageable));
+    }
+
+    @GetMapping("/search/facets")
+    @Operation(summary = "Get book counts per category and author for search params")
+    public BookFacetsDto getFacets(BookSearchParameters searchParameters) {
+        return bookService.getFacets(searchParameters);
+    }
+
+    @GetMapping(value = "/search", params = "q")
+    @Operation(summary = "Get books ranked by full-text relevance to the query")
+    public List<BookDto> fullTextSearch(@RequestParam String q,
+                                        @ParameterObject @PageableDefault Pageable pageable) {
+        return bookService.fullTextSearch(q, pageable);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Get title and author suggestions for a prefix")
+    public List<String> suggest(@RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") @Positive
+                                @Max(BookSuggestionIndex.MAX_SUGGESTIONS) int limit) {
+        return bookService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/search/scroll")
+    @Operation(summary = "Get a books by search params using keyset pagination")
+    public CursorPageDto<BookDto> scrollSearchBooks(BookSearchParameters searchParameters,
+                                                    @RequestParam(required = false) String after,
+                                                    @ParameterObject @PageableDefault
+                                                    Pageable pageable) {
+        return bookService.searchBooks(searchParameters, after, pageable);
     }
 
     @PutMapping("/{id}")
@@ -82,4 +193,10 @@ public class BookController {
                               @RequestBody @Valid UpdateBookRequestDto requestDto) {
         return bookService.update(id, requestDto);
     }
+
+    private ResponseEntity<List<BookDto>> toResponse(Slice<BookDto> books) {
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(books.hasNext()))
+                .body(books.getContent());
+    }
 }
@@ -8,7 +8,12 @@ import mate.academy.spring.boot.dto.category.CategoryDto;
 import mate.academy.spring.boot.dto.category.CategoryRequestDto;
 import mate.academy.spring.boot.service.BookService;
 import mate.academy.spring.boot.service.CategoryService;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,8 +22,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/categories")
@@ -35,13 +42,20 @@ public class CategoryController {
     }
 
     @GetMapping
-    public List<CategoryDto> getAll() {
-        return categoryService.findAll();
+    public ResponseEntity<byte[]> getAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categoryService.findAllAsJson());
     }
 
     @GetMapping("/{id}")
-    public CategoryDto getCategoryById(@PathVariable Long id) {
-        return categoryService.getById(id);
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id,
+                                                       WebRequest webRequest) {
+        String etag = categoryService.getEtag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(categoryService.getById(id));
     }
 
     @PutMapping("/{id}")
@@ -59,7 +73,10 @@ public class CategoryController {
     }
 
     @GetMapping("/{id}/books")
-    public List<BookDtoWithoutCategoryIds> getBooksByCategoryId(@PathVariable Long id) {
-        return bookService.findAllByCategoryId(id);
+    public List<BookDtoWithoutCategoryIds> getBooksByCategoryId(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @ParameterObject @PageableDefault Pageable pageable) {
+        return bookService.findAllByCategoryId(id, after, pageable);
     }
 }
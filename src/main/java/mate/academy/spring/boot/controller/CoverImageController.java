@@ -0,0 +1,117 @@
+package mate.academy.spring.boot.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.service.CoverImageService;
+import mate.academy.spring.boot.storage.CoverImage;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "Book cover API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/books/{id}/cover")
+public class CoverImageController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1))
+            .cachePublic()
+            .getHeaderValue();
+    private final CoverImageService coverImageService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Upload a JPEG or PNG cover image for the book")
+    public BookDto uploadCover(@PathVariable Long id,
+                               @RequestParam MultipartFile file) throws IOException {
+        return coverImageService.uploadCover(id, file);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the book cover or its thumbnail, supports byte ranges")
+    public void getCover(@PathVariable Long id,
+                         @RequestParam(defaultValue = "false") boolean thumbnail,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        CoverImage cover = coverImageService.getCover(id, thumbnail);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(cover.etag())) {
+            return;
+        }
+        long length = Files.size(cover.path());
+        long start = 0;
+        long end = length - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        List<HttpRange> ranges = parseRanges(request);
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(cover.contentType());
+        response.setContentLengthLong(end - start + 1);
+        if (!HttpMethod.HEAD.matches(request.getMethod())) {
+            send(cover, start, end, request, response);
+        }
+    }
+
+    private List<HttpRange> parseRanges(HttpServletRequest request) {
+        try {
+            return HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private void send(CoverImage cover, long start, long end, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, cover.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(cover.path(), StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end - position + 1, output);
+            }
+        }
+    }
+}
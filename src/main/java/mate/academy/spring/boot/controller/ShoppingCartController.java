@@ -2,6 +2,7 @@ package mate.academy.spring.boot.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.cartitem.CartItemBatchRequestDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
 import mate.academy.spring.boot.model.User;
@@ -31,6 +32,13 @@ public class ShoppingCartController {
         return shoppingCartService.addBookToCart(user.getId(), cartItemRequestDto);
     }
 
+    @PostMapping("/items:batch")
+    public ShoppingCartDto applyOperations(@AuthenticationPrincipal User user,
+                                           @RequestBody @Valid
+                                           CartItemBatchRequestDto requestDto) {
+        return shoppingCartService.applyOperations(user.getId(), requestDto.getOperations());
+    }
+
     @GetMapping
     public ShoppingCartDto getShoppingCart(@AuthenticationPrincipal User user) {
         return shoppingCartService.getCartByUserId(user.getId());
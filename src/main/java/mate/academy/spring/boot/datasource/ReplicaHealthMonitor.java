@@ -0,0 +1,56 @@
+package mate.academy.spring.boot.datasource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaHealthMonitor {
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private volatile boolean healthy = true;
+
+    public ReplicaHealthMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery,
+                                Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval}")
+    public void check() {
+        try {
+            healthy = isWithinMaxLag(lagQuery == null || lagQuery.isBlank()
+                    ? replicaJdbcTemplate.query(REPLICA_STATUS_QUERY,
+                            (ResultSetExtractor<Long>) this::getSecondsBehindSource)
+                    : replicaJdbcTemplate.queryForObject(lagQuery, Long.class));
+        } catch (DataAccessException e) {
+            healthy = false;
+        }
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public void markDown() {
+        healthy = false;
+    }
+
+    private Long getSecondsBehindSource(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        long lagSeconds = resultSet.getLong("Seconds_Behind_Source");
+        return resultSet.wasNull() ? null : lagSeconds;
+    }
+
+    private boolean isWithinMaxLag(Long lagSeconds) {
+        return lagSeconds != null && lagSeconds <= maxLag.toSeconds();
+    }
+}
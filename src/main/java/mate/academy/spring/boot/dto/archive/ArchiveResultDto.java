@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.dto.archive;
+
+public record ArchiveResultDto(int users, int books, int categories) {
+}
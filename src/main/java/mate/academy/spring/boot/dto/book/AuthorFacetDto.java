@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.dto.book;
+
+public record AuthorFacetDto(String author, Long count) {
+}
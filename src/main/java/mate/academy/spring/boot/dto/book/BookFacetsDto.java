@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.dto.book;
+
+import java.util.List;
+
+public record BookFacetsDto(List<CategoryFacetDto> categories, List<AuthorFacetDto> authors) {
+}
@@ -0,0 +1,14 @@
+package mate.academy.spring.boot.dto.book;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BookIdsRequestDto {
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,7 @@
+package mate.academy.spring.boot.dto.book;
+
+import java.util.List;
+
+public record BookImportResultDto(int total, int imported, int duplicates,
+                                  List<BookImportErrorDto> errors) {
+}
@@ -1,4 +1,8 @@
 package mate.academy.spring.boot.dto.book;
 
-public record BookSearchParameters(String[] title, String[] author, String[] isbn) {
+import java.math.BigDecimal;
+
+public record BookSearchParameters(String[] title, String[] author, String[] isbn,
+                                   BigDecimal minPrice, BigDecimal maxPrice,
+                                   Long[] categoryIds) {
 }
@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.dto.book;
+
+public record CategoryFacetDto(Long id, String name, Long count) {
+}
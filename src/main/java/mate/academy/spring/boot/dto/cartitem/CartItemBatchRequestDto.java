@@ -0,0 +1,15 @@
+package mate.academy.spring.boot.dto.cartitem;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CartItemBatchRequestDto {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid @NotNull CartItemOperationDto> operations;
+}
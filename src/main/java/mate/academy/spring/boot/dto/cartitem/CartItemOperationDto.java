@@ -0,0 +1,23 @@
+package mate.academy.spring.boot.dto.cartitem;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+@Data
+public class CartItemOperationDto {
+    @NotNull
+    private Operation operation;
+    @Positive
+    @NotNull
+    private Long bookId;
+    @PositiveOrZero
+    private int quantity;
+
+    public enum Operation {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+}
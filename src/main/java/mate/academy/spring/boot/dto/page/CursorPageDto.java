@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.dto.page;
+
+import java.util.List;
+
+public record CursorPageDto<T>(List<T> content, String nextCursor) {
+}
@@ -1,5 +1,6 @@
 package mate.academy.spring.boot.dto.shoppingcart;
 
+import java.math.BigDecimal;
 import java.util.Set;
 import lombok.Data;
 import mate.academy.spring.boot.dto.cartitem.CartItemDto;
@@ -9,4 +10,6 @@ public class ShoppingCartDto {
     private Long id;
     private Long userId;
     private Set<CartItemDto> cartItems;
+    private int itemCount;
+    private BigDecimal subtotal;
 }
@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.event;
+
+public record BookDeletedEvent(Long id) {
+}
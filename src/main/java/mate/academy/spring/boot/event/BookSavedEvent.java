@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.event;
+
+import mate.academy.spring.boot.dto.book.BookDto;
+
+public record BookSavedEvent(BookDto book) {
+}
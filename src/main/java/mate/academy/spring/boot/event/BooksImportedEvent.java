@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.event;
+
+import java.util.List;
+
+public record BooksImportedEvent(List<String> isbns) {
+}
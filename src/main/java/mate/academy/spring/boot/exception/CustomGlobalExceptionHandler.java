@@ -14,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @ControllerAdvice
@@ -35,6 +36,25 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, headers, status);
     }
 
+    @Override
+    protected ResponseEntity<Object> handleHandlerMethodValidationException(
+            HandlerMethodValidationException ex,
+            HttpHeaders headers,
+            HttpStatusCode status,
+            WebRequest request
+    ) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.BAD_REQUEST);
+        List<String> errors = ex.getAllValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(error -> result.getMethodParameter().getParameterName()
+                                + " " + error.getDefaultMessage()))
+                .toList();
+        body.put("errors", errors);
+        return new ResponseEntity<>(body, headers, status);
+    }
+
     private String getErrorMessage(ObjectError error) {
         if (error instanceof FieldError) {
             String field = ((FieldError) error).getField();
@@ -60,6 +80,30 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, new HttpHeaders(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<Object> handleInvalidCursorException(
+            InvalidCursorException ex, WebRequest request) {
+        Map<String, Object> body = createErrorResponseBody(ex.getMessage(),
+                "Bad Request", HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(body, new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UnsupportedSortException.class)
+    protected ResponseEntity<Object> handleUnsupportedSortException(
+            UnsupportedSortException ex, WebRequest request) {
+        Map<String, Object> body = createErrorResponseBody(ex.getMessage(),
+                "Bad Request", HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(body, new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCoverImageException.class)
+    protected ResponseEntity<Object> handleInvalidCoverImageException(
+            InvalidCoverImageException ex, WebRequest request) {
+        Map<String, Object> body = createErrorResponseBody(ex.getMessage(),
+                "Bad Request", HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(body, new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
     private Map<String, Object> createErrorResponseBody(String message,
                                                         String error, HttpStatus status) {
         Map<String, Object> body = new LinkedHashMap<>();
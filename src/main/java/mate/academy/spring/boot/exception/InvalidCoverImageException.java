@@ -0,0 +1,7 @@
+package mate.academy.spring.boot.exception;
+
+public class InvalidCoverImageException extends RuntimeException {
+    public InvalidCoverImageException(String message) {
+        super(message);
+    }
+}
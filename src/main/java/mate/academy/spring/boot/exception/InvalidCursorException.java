@@ -0,0 +1,7 @@
+package mate.academy.spring.boot.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package mate.academy.spring.boot.exception;
+
+public class UnsupportedSortException extends RuntimeException {
+    public UnsupportedSortException(String message) {
+        super(message);
+    }
+}
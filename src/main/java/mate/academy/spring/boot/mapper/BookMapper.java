@@ -6,8 +6,10 @@ import mate.academy.spring.boot.dto.book.BookDtoWithoutCategoryIds;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
 import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
 import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookRow;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
@@ -15,6 +17,9 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 public interface BookMapper {
     BookDto toDto(Book book);
 
+    @Mapping(target = "categories", ignore = true)
+    BookDto toDto(BookRow bookRow);
+
     Book toEntity(BookDto bookDto);
 
     Book toModel(CreateBookRequestDto requestDto);
@@ -23,4 +28,6 @@ public interface BookMapper {
     void updateModel(@MappingTarget Book book, UpdateBookRequestDto requestDto);
 
     BookDtoWithoutCategoryIds toDtoWithoutCategories(Book book);
+
+    BookDtoWithoutCategoryIds toDtoWithoutCategories(BookRow bookRow);
 }
@@ -1,5 +1,6 @@
 package mate.academy.spring.boot.mapper;
 
+import mate.academy.spring.boot.cart.CartSnapshot;
 import mate.academy.spring.boot.config.MapperConfig;
 import mate.academy.spring.boot.dto.cartitem.CartItemDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
@@ -15,6 +16,9 @@ public interface ShoppingCartMapper {
     @Mapping(target = "cartItems", source = "cartItemSet")
     ShoppingCartDto toDto(ShoppingCart shoppingCart);
 
+    @Mapping(target = "cartItems", source = "lines")
+    ShoppingCartDto toDto(CartSnapshot cartSnapshot);
+
     @Mapping(target = "bookId", source = "book.id")
     @Mapping(target = "bookTitle", source = "book.title")
     CartItemDto toCartItemDto(CartItem cartItem);
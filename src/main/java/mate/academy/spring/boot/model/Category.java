@@ -1,14 +1,18 @@
 package mate.academy.spring.boot.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -16,8 +20,10 @@ import org.hibernate.annotations.SQLRestriction;
 @Getter
 @Setter
 @ToString
-@SQLDelete(sql = "UPDATE categories SET is_deleted = true WHERE id=?")
+@SQLDelete(sql = "UPDATE categories SET is_deleted = true, deleted_at = NOW()"
+        + " WHERE id=? AND version=?")
 @SQLRestriction("is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Table(name = "categories")
 public class Category {
     @Id
@@ -28,4 +34,8 @@ public class Category {
     private String description;
     @Column(nullable = false, columnDefinition = "TINYINT(1)")
     private boolean isDeleted = false;
+    @Version
+    @JsonIgnore
+    @Column(nullable = false)
+    private Long version;
 }
@@ -11,12 +11,15 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 @Entity
 @Getter
 @Setter
 @ToString
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "role")
 @Table(name = "roles")
 public class Role implements GrantedAuthority {
     @Id
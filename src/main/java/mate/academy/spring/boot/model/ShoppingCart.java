@@ -1,6 +1,7 @@
 package mate.academy.spring.boot.model;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -11,6 +12,7 @@ import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
@@ -32,4 +34,8 @@ public class ShoppingCart {
     private User user;
     @OneToMany(mappedBy = "shoppingCart", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<CartItem> cartItemSet = new HashSet<>();
+    @Column(name = "item_count", insertable = false, updatable = false)
+    private int itemCount;
+    @Column(insertable = false, updatable = false)
+    private BigDecimal subtotal = BigDecimal.ZERO;
 }
@@ -15,6 +15,8 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,7 +26,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 @Getter
 @Setter
 @ToString(exclude = "roles")
-@SQLDelete(sql = "UPDATE users SET is_deleted = true WHERE id=?")
+@SQLDelete(sql = "UPDATE users SET is_deleted = true, deleted_at = NOW()"
+        + " WHERE id=?")
 @SQLRestriction("is_deleted = false")
 @Table(name = "users")
 public class User implements UserDetails {
@@ -43,6 +46,7 @@ public class User implements UserDetails {
     @Column(name = "is_deleted", columnDefinition = "TINYINT")
     private boolean isDeleted = false;
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @JoinTable(
             name = "users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.repository.book;
+
+public record BookCategoryRow(Long bookId, Long id, String name, String description) {
+}
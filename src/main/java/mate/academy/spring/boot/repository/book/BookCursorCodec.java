@@ -0,0 +1,90 @@
+package mate.academy.spring.boot.repository.book;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BookCursorCodec {
+    private static final String ID_KEY = "id";
+    private static final Map<String, Class<?>> KEYSET_PROPERTIES = Map.of(
+            ID_KEY, Long.class,
+            "title", String.class,
+            "author", String.class,
+            "price", BigDecimal.class
+    );
+    private static final Sort DEFAULT_SORT = Sort.by(ID_KEY);
+    private final ObjectMapper objectMapper;
+
+    public Sort getKeysetSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_SORT;
+        }
+        return BookSortProperties.validate(sort);
+    }
+
+    public KeysetScrollPosition decode(String cursor, Sort sort) {
+        BookSortProperties.validate(sort);
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> rawKeys = readKeys(cursor);
+        if (!rawKeys.keySet().equals(getExpectedKeys(sort))) {
+            throw new InvalidCursorException("Cursor doesn't match the requested sort");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        rawKeys.forEach((property, value) -> keys.put(property,
+                convertKey(property, value)));
+        return ScrollPosition.forward(keys);
+    }
+
+    public String encode(KeysetScrollPosition position) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(position.getKeys()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't encode cursor " + position, e);
+        }
+    }
+
+    private Map<String, Object> readKeys(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor),
+                    new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("Malformed cursor " + cursor);
+        }
+    }
+
+    private Object convertKey(String property, Object value) {
+        if (value == null) {
+            throw new InvalidCursorException("Cursor key " + property + " can't be null");
+        }
+        try {
+            return objectMapper.convertValue(value, KEYSET_PROPERTIES.get(property));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor key " + property);
+        }
+    }
+
+    private Set<String> getExpectedKeys(Sort sort) {
+        Set<String> keys = new LinkedHashSet<>();
+        sort.forEach(order -> keys.add(order.getProperty()));
+        keys.add(ID_KEY);
+        return keys;
+    }
+}
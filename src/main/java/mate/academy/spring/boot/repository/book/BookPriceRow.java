@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.repository.book;
+
+import java.math.BigDecimal;
+
+public record BookPriceRow(Long id, BigDecimal price) {
+}
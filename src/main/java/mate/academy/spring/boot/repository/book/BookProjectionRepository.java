@@ -0,0 +1,18 @@
+package mate.academy.spring.boot.repository.book;
+
+import java.util.List;
+import mate.academy.spring.boot.dto.book.AuthorFacetDto;
+import mate.academy.spring.boot.dto.book.CategoryFacetDto;
+import mate.academy.spring.boot.model.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookProjectionRepository {
+
+    Slice<BookRow> findAllRows(Specification<Book> specification, Pageable pageable);
+
+    List<CategoryFacetDto> countByCategory(Specification<Book> specification, int limit);
+
+    List<AuthorFacetDto> countByAuthor(Specification<Book> specification, int limit);
+}
@@ -0,0 +1,90 @@
+package mate.academy.spring.boot.repository.book;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.AuthorFacetDto;
+import mate.academy.spring.boot.dto.book.CategoryFacetDto;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.model.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+@RequiredArgsConstructor
+public class BookProjectionRepositoryImpl implements BookProjectionRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<BookRow> findAllRows(Specification<Book> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookRow> query = criteriaBuilder.createQuery(BookRow.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(criteriaBuilder.construct(BookRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("author"),
+                root.get("isbn"),
+                root.get("price"),
+                root.get("description"),
+                root.get("coverImage")));
+        applySpecification(specification, root, query, criteriaBuilder);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        TypedQuery<BookRow> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList());
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<BookRow> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows,
+                pageable, hasNext);
+    }
+
+    @Override
+    public List<CategoryFacetDto> countByCategory(Specification<Book> specification, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CategoryFacetDto> query = criteriaBuilder
+                .createQuery(CategoryFacetDto.class);
+        Root<Book> root = query.from(Book.class);
+        Join<Book, Category> category = root.join("categories");
+        Expression<Long> count = criteriaBuilder.countDistinct(root.get("id"));
+        query.select(criteriaBuilder.construct(CategoryFacetDto.class,
+                category.get("id"), category.get("name"), count));
+        applySpecification(specification, root, query, criteriaBuilder);
+        query.groupBy(category.get("id"), category.get("name"));
+        query.orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(category.get("name")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<AuthorFacetDto> countByAuthor(Specification<Book> specification, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuthorFacetDto> query = criteriaBuilder.createQuery(AuthorFacetDto.class);
+        Root<Book> root = query.from(Book.class);
+        Expression<Long> count = criteriaBuilder.count(root);
+        query.select(criteriaBuilder.construct(AuthorFacetDto.class, root.get("author"), count));
+        applySpecification(specification, root, query, criteriaBuilder);
+        query.groupBy(root.get("author"));
+        query.orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(root.get("author")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private void applySpecification(Specification<Book> specification, Root<Book> root,
+                                    CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -1,18 +1,69 @@
 package mate.academy.spring.boot.repository.book;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import mate.academy.spring.boot.model.Book;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookProjectionRepository {
 
     List<Book> findAllByTitle(String title);
 
-    @Query("SELECT b FROM Book b JOIN b.categories c"
-            + " WHERE c.id = :categoryId AND b.isDeleted = false")
-    List<Book> findAllByCategoryId(@Param("categoryId")Long categoryId);
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookPriceRow(b.id, b.price)"
+            + " FROM Book b WHERE b.isbn IN :isbns")
+    List<BookPriceRow> findPricesByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @EntityGraph(attributePaths = "categories")
+    List<Book> findAllWithCategoriesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookCategoryRow("
+            + "b.id, c.id, c.name, c.description)"
+            + " FROM Book b JOIN b.categories c WHERE b.id IN :bookIds")
+    List<BookCategoryRow> findCategoryRowsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookVersionRow("
+            + "b.version, c.id, c.version)"
+            + " FROM Book b LEFT JOIN b.categories c WHERE b.id = :id")
+    List<BookVersionRow> findVersionRowsById(@Param("id") Long id);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookRow(b.id, b.title,"
+            + " b.author, b.isbn, b.price, b.description, b.coverImage)"
+            + " FROM Book b JOIN b.categories c WHERE c.id = :categoryId"
+            + " AND (:afterId IS NULL OR b.id > :afterId) ORDER BY b.id")
+    List<BookRow> findAllByCategoryId(@Param("categoryId") Long categoryId,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookRow(b.id, b.title,"
+            + " b.author, b.isbn, b.price, b.description, b.coverImage)"
+            + " FROM Book b WHERE b.isbn IN :isbns")
+    List<BookRow> findRowsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookRow(b.id, b.title,"
+            + " b.author, b.isbn, b.price, b.description, b.coverImage)"
+            + " FROM Book b WHERE (:afterId IS NULL OR b.id > :afterId) ORDER BY b.id")
+    List<BookRow> findRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new mate.academy.spring.boot.repository.book.BookRow(b.id, b.title,"
+            + " b.author, b.isbn, b.price, b.description, b.coverImage)"
+            + " FROM Book b ORDER BY b.id")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookRow> streamAllRows();
 
 }
@@ -0,0 +1,7 @@
+package mate.academy.spring.boot.repository.book;
+
+import java.math.BigDecimal;
+
+public record BookRow(Long id, String title, String author, String isbn, BigDecimal price,
+                      String description, String coverImage) {
+}
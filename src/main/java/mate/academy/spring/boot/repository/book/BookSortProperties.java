@@ -0,0 +1,22 @@
+package mate.academy.spring.boot.repository.book;
+
+import java.util.Set;
+import mate.academy.spring.boot.exception.UnsupportedSortException;
+import org.springframework.data.domain.Sort;
+
+public final class BookSortProperties {
+    public static final Set<String> INDEXED = Set.of("id", "title", "author", "price");
+
+    private BookSortProperties() {
+    }
+
+    public static Sort validate(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!INDEXED.contains(order.getProperty())) {
+                throw new UnsupportedSortException("Books can't be sorted by "
+                        + order.getProperty() + ", supported properties are " + INDEXED);
+            }
+        }
+        return sort;
+    }
+}
@@ -1,5 +1,7 @@
 package mate.academy.spring.boot.repository.book;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
 import mate.academy.spring.boot.model.Book;
@@ -16,21 +18,29 @@ public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
     @Override
     public Specification<Book> build(BookSearchParameters searchParameters) {
         Specification<Book> bookSpec = Specification.where(null);
-        if (searchParameters.title() != null && searchParameters.title().length > 0) {
-            bookSpec = bookSpec.and(specificationProviderManager
-                    .getSpecificationProvider("title")
-                    .getSpecification(searchParameters.title()));
-        }
-        if (searchParameters.author() != null && searchParameters.author().length > 0) {
-            bookSpec = bookSpec.and(specificationProviderManager
-                    .getSpecificationProvider("author")
-                    .getSpecification(searchParameters.author()));
-        }
-        if (searchParameters.isbn() != null && searchParameters.isbn().length > 0) {
-            bookSpec = bookSpec.and(specificationProviderManager
-                    .getSpecificationProvider("isbn")
-                    .getSpecification(searchParameters.isbn()));
+        bookSpec = and(bookSpec, "title", searchParameters.title());
+        bookSpec = and(bookSpec, "author", searchParameters.author());
+        bookSpec = and(bookSpec, "isbn", searchParameters.isbn());
+        bookSpec = and(bookSpec, "minPrice", toParams(searchParameters.minPrice()));
+        bookSpec = and(bookSpec, "maxPrice", toParams(searchParameters.maxPrice()));
+        if (searchParameters.categoryIds() != null) {
+            bookSpec = and(bookSpec, "categoryIds", Arrays.stream(searchParameters.categoryIds())
+                    .map(String::valueOf)
+                    .toArray(String[]::new));
         }
         return bookSpec;
     }
+
+    private Specification<Book> and(Specification<Book> bookSpec, String key, String[] params) {
+        if (params == null || params.length == 0) {
+            return bookSpec;
+        }
+        return bookSpec.and(specificationProviderManager
+                .getSpecificationProvider(key)
+                .getSpecification(params));
+    }
+
+    private String[] toParams(BigDecimal value) {
+        return value == null ? null : new String[]{value.toPlainString()};
+    }
 }
@@ -1,23 +1,32 @@
 package mate.academy.spring.boot.repository.book;
 
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import mate.academy.spring.boot.model.Book;
 import mate.academy.spring.boot.repository.SpecificationProvider;
 import mate.academy.spring.boot.repository.SpecificationProviderManager;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Component
 public class BookSpecificationProviderManager implements SpecificationProviderManager<Book> {
-    private final List<SpecificationProvider<Book>> bookSpecificationProviders;
+    private final Map<String, SpecificationProvider<Book>> bookSpecificationProviders;
+
+    public BookSpecificationProviderManager(
+            List<SpecificationProvider<Book>> bookSpecificationProviders) {
+        this.bookSpecificationProviders = bookSpecificationProviders.stream()
+                .collect(Collectors.toUnmodifiableMap(SpecificationProvider::getKey,
+                        Function.identity()));
+    }
 
     @Override
     public SpecificationProvider<Book> getSpecificationProvider(String key) {
-        return bookSpecificationProviders.stream()
-                .filter(b -> b.getKey().equals(key))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Cant find correct"
-                        + " specification provider for key " + key));
+        SpecificationProvider<Book> provider = bookSpecificationProviders.get(key);
+        if (provider == null) {
+            throw new RuntimeException("Cant find correct"
+                    + " specification provider for key " + key);
+        }
+        return provider;
     }
 }
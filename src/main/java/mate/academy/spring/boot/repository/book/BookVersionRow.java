@@ -0,0 +1,4 @@
+package mate.academy.spring.boot.repository.book;
+
+public record BookVersionRow(Long version, Long categoryId, Long categoryVersion) {
+}
@@ -1,7 +1,14 @@
 package mate.academy.spring.boot.repository.book.spec;
 
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.model.Category;
 import mate.academy.spring.boot.repository.SpecificationProvider;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -54,4 +61,62 @@ public class BookSpecificationProvider {
             return (root, query, criteriaBuilder) -> root.get("isbn").in((Object[]) params);
         }
     }
+
+    @Component
+    private static class MinPriceSpecification implements SpecificationProvider<Book> {
+        private static final String MIN_PRICE_KEY = "minPrice";
+
+        @Override
+        public String getKey() {
+            return MIN_PRICE_KEY;
+        }
+
+        @Override
+        public Specification<Book> getSpecification(String[] params) {
+            BigDecimal minPrice = new BigDecimal(params[0]);
+            return (root, query, criteriaBuilder) -> criteriaBuilder
+                    .greaterThanOrEqualTo(root.get("price"), minPrice);
+        }
+    }
+
+    @Component
+    private static class MaxPriceSpecification implements SpecificationProvider<Book> {
+        private static final String MAX_PRICE_KEY = "maxPrice";
+
+        @Override
+        public String getKey() {
+            return MAX_PRICE_KEY;
+        }
+
+        @Override
+        public Specification<Book> getSpecification(String[] params) {
+            BigDecimal maxPrice = new BigDecimal(params[0]);
+            return (root, query, criteriaBuilder) -> criteriaBuilder
+                    .lessThanOrEqualTo(root.get("price"), maxPrice);
+        }
+    }
+
+    @Component
+    private static class CategorySpecification implements SpecificationProvider<Book> {
+        private static final String CATEGORY_IDS_KEY = "categoryIds";
+
+        @Override
+        public String getKey() {
+            return CATEGORY_IDS_KEY;
+        }
+
+        @Override
+        public Specification<Book> getSpecification(String[] params) {
+            List<Long> categoryIds = Arrays.stream(params)
+                    .map(Long::valueOf)
+                    .toList();
+            return (root, query, criteriaBuilder) -> {
+                Subquery<Long> bookIds = query.subquery(Long.class);
+                Root<Book> book = bookIds.from(Book.class);
+                Join<Book, Category> category = book.join("categories");
+                bookIds.select(book.get("id")).where(category.get("id").in(categoryIds));
+                return root.get("id").in(bookIds);
+            };
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package mate.academy.spring.boot.repository.cartitem;
+
+import java.util.List;
+import mate.academy.spring.boot.cart.CartItemChange;
+
+public interface CartItemBatchRepository {
+    void applyChanges(Long cartId, List<CartItemChange> changes);
+}
@@ -0,0 +1,49 @@
+package mate.academy.spring.boot.repository.cartitem;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.cart.CartItemChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CartItemBatchRepositoryImpl implements CartItemBatchRepository {
+    private static final String INCREMENT_ITEM = "INSERT INTO cart_items"
+            + " (shopping_cart_id, book_id, quantity) VALUES (?, ?, ?) AS new"
+            + " ON DUPLICATE KEY UPDATE quantity = cart_items.quantity + new.quantity";
+    private static final String REPLACE_ITEM = "INSERT INTO cart_items"
+            + " (shopping_cart_id, book_id, quantity) VALUES (?, ?, ?) AS new"
+            + " ON DUPLICATE KEY UPDATE quantity = new.quantity";
+    private static final String DELETE_ITEM = "DELETE FROM cart_items"
+            + " WHERE shopping_cart_id = ? AND book_id = ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyChanges(Long cartId, List<CartItemChange> changes) {
+        upsert(INCREMENT_ITEM, cartId, changes.stream()
+                .filter(change -> change.increment() && change.quantity() > 0)
+                .toList());
+        upsert(REPLACE_ITEM, cartId, changes.stream()
+                .filter(change -> !change.increment() && change.quantity() > 0)
+                .toList());
+        List<CartItemChange> removals = changes.stream()
+                .filter(CartItemChange::isRemoval)
+                .toList();
+        if (!removals.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ITEM, removals, removals.size(), (ps, change) -> {
+                ps.setLong(1, cartId);
+                ps.setLong(2, change.bookId());
+            });
+        }
+    }
+
+    private void upsert(String sql, Long cartId, List<CartItemChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, cartId);
+            ps.setLong(2, change.bookId());
+            ps.setInt(3, change.quantity());
+        });
+    }
+}
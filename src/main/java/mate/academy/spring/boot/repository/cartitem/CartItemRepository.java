@@ -1,15 +1,33 @@
 package mate.academy.spring.boot.repository.cartitem;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.Set;
 import mate.academy.spring.boot.model.CartItem;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+public interface CartItemRepository extends JpaRepository<CartItem, Long>,
+        CartItemBatchRepository {
     @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.book WHERE ci.shoppingCart.id = :cartId")
     Set<CartItem> findByShoppingCartIdWithBook(@Param("cartId") Long cartId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<CartItem> findByIdAndShoppingCartId(Long itemId, Long cartId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO cart_items (shopping_cart_id, book_id, quantity)
+            SELECT :cartId, b.id, :quantity FROM books b
+            WHERE b.id = :bookId AND b.is_deleted = FALSE
+            ON DUPLICATE KEY UPDATE quantity = quantity + :quantity""", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_items"))
+    int upsertQuantity(@Param("cartId") Long cartId, @Param("bookId") Long bookId,
+                       @Param("quantity") int quantity);
 }
@@ -1,14 +1,51 @@
 package mate.academy.spring.boot.repository.shoppingcart;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.Optional;
 import mate.academy.spring.boot.model.ShoppingCart;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long> {
+    String CART_TOTALS = "SELECT ci.shopping_cart_id, SUM(ci.quantity) AS item_count,"
+            + " SUM(ci.quantity * b.price) AS subtotal"
+            + " FROM cart_items ci JOIN books b ON b.id = ci.book_id";
+
     Optional<ShoppingCart> findByUserId(Long userId);
 
     @Query("SELECT sc FROM ShoppingCart sc LEFT JOIN FETCH sc.cartItemSet WHERE sc.id = :id")
     Optional<ShoppingCart> findByIdWithItems(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE shopping_carts SET item_count = item_count + :quantity,"
+            + " subtotal = subtotal + :quantity * (SELECT price FROM books WHERE id = :bookId)"
+            + " WHERE id = :cartId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "shopping_carts"))
+    void adjustTotals(@Param("cartId") Long cartId, @Param("bookId") Long bookId,
+                      @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE shopping_carts sc LEFT JOIN (" + CART_TOTALS
+            + " WHERE ci.shopping_cart_id IN (:cartIds) GROUP BY ci.shopping_cart_id) totals"
+            + " ON totals.shopping_cart_id = sc.id"
+            + " SET sc.item_count = COALESCE(totals.item_count, 0),"
+            + " sc.subtotal = COALESCE(totals.subtotal, 0)"
+            + " WHERE sc.id IN (:cartIds)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "shopping_carts"))
+    void refreshTotals(@Param("cartIds") Collection<Long> cartIds);
+
+    @Modifying
+    @Query(value = "UPDATE shopping_carts sc JOIN (" + CART_TOTALS
+            + " WHERE ci.shopping_cart_id IN (SELECT shopping_cart_id FROM cart_items"
+            + " WHERE book_id IN (:bookIds)) GROUP BY ci.shopping_cart_id) totals"
+            + " ON totals.shopping_cart_id = sc.id"
+            + " SET sc.item_count = totals.item_count, sc.subtotal = totals.subtotal",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "shopping_carts"))
+    void refreshTotalsByBookIds(@Param("bookIds") Collection<Long> bookIds);
 }
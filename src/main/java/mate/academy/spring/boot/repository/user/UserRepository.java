@@ -3,12 +3,9 @@ package mate.academy.spring.boot.repository.user;
 import java.util.Optional;
 import mate.academy.spring.boot.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u JOIN FETCH u.roles WHERE u.email = :email")
-    Optional<User> findByEmailWithRoles(@Param("email") String email);
+    Optional<User> findByEmail(String email);
 }
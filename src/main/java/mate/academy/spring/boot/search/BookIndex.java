@@ -0,0 +1,8 @@
+package mate.academy.spring.boot.search;
+
+public interface BookIndex {
+
+    void index(Long id, String title, String author, String description);
+
+    void remove(Long id);
+}
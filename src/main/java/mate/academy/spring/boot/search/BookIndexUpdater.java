@@ -0,0 +1,64 @@
+package mate.academy.spring.boot.search;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.event.BookDeletedEvent;
+import mate.academy.spring.boot.event.BookSavedEvent;
+import mate.academy.spring.boot.event.BooksImportedEvent;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class BookIndexUpdater {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private final BookRepository bookRepository;
+    private final List<BookIndex> bookIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Pageable pageable = Pageable.ofSize(REBUILD_BATCH_SIZE);
+        Long afterId = null;
+        List<BookRow> rows;
+        do {
+            rows = bookRepository.findRowsAfter(afterId, pageable);
+            for (BookRow row : rows) {
+                index(row);
+                afterId = row.id();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        BookDto book = event.book();
+        bookIndexes.forEach(index -> index.index(book.getId(), book.getTitle(),
+                book.getAuthor(), book.getDescription()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        List<String> isbns = event.isbns();
+        for (int from = 0; from < isbns.size(); from += REBUILD_BATCH_SIZE) {
+            bookRepository.findRowsByIsbnIn(isbns.subList(from,
+                            Math.min(from + REBUILD_BATCH_SIZE, isbns.size())))
+                    .forEach(this::index);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        bookIndexes.forEach(index -> index.remove(event.id()));
+    }
+
+    private void index(BookRow row) {
+        bookIndexes.forEach(index -> index.index(row.id(), row.title(), row.author(),
+                row.description()));
+    }
+}
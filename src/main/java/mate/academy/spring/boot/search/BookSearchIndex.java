@@ -0,0 +1,94 @@
+package mate.academy.spring.boot.search;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookSearchIndex implements BookIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3;
+    private static final int AUTHOR_BOOST = 2;
+    private static final int DESCRIPTION_BOOST = 1;
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedBook> books = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    @Override
+    public synchronized void index(Long id, String title, String author, String description) {
+        remove(id);
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, title, TITLE_BOOST);
+        addTerms(termFrequencies, author, AUTHOR_BOOST);
+        addTerms(termFrequencies, description, DESCRIPTION_BOOST);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        termFrequencies.forEach((term, frequency) -> postings
+                .computeIfAbsent(term, key -> new ConcurrentHashMap<>())
+                .put(id, frequency));
+        books.put(id, new IndexedBook(termFrequencies.keySet(), length));
+        totalLength.addAndGet(length);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        IndexedBook removed = books.remove(id);
+        if (removed == null) {
+            return;
+        }
+        totalLength.addAndGet(-removed.length());
+        for (String term : removed.terms()) {
+            postings.computeIfPresent(term, (key, postingList) -> {
+                postingList.remove(id);
+                return postingList.isEmpty() ? null : postingList;
+            });
+        }
+    }
+
+    public List<Long> search(String query, long offset, int limit) {
+        int documentCount = books.size();
+        if (documentCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength.get() / documentCount);
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(SearchTokenizer.tokenize(query))) {
+            Map<Long, Integer> postingList = postings.getOrDefault(term, Map.of());
+            double idf = Math.log(1 + (documentCount - postingList.size() + 0.5)
+                    / (postingList.size() + 0.5));
+            postingList.forEach((id, frequency) -> {
+                IndexedBook book = books.get(id);
+                if (book != null) {
+                    double norm = K1 * (1 - B + B * book.length() / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm),
+                            Double::sum);
+                }
+            });
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        return books.size();
+    }
+
+    private void addTerms(Map<String, Integer> termFrequencies, String text, int boost) {
+        SearchTokenizer.tokenize(text)
+                .forEach(term -> termFrequencies.merge(term, boost, Integer::sum));
+    }
+
+    private record IndexedBook(Set<String> terms, int length) {
+    }
+}
@@ -0,0 +1,251 @@
+package mate.academy.spring.boot.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookSuggestionIndex implements BookIndex {
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final Comparator<Suggestion> BY_POPULARITY = Comparator
+            .comparingLong(Suggestion::count).reversed()
+            .thenComparing(Suggestion::key);
+    private final Node root = new Node("");
+    private final Map<Long, List<String>> bookKeys = new HashMap<>();
+
+    @Override
+    public synchronized void index(Long id, String title, String author, String description) {
+        remove(id);
+        List<String> keys = new ArrayList<>(2);
+        addPhrase(keys, title);
+        addPhrase(keys, author);
+        bookKeys.put(id, keys);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        List<String> keys = bookKeys.remove(id);
+        if (keys != null) {
+            keys.forEach(key -> changeCount(key, null, -1));
+        }
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        String key = toKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            node = node.child(key.charAt(matched));
+            if (node == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(node.label, key, matched);
+            if (common < node.label.length() && matched + common < key.length()) {
+                return List.of();
+            }
+            matched += common;
+        }
+        return node.top().stream()
+                .limit(Math.max(0, Math.min(limit, MAX_SUGGESTIONS)))
+                .map(Suggestion::text)
+                .toList();
+    }
+
+    synchronized int nodeCount() {
+        return countNodes(root);
+    }
+
+    private void addPhrase(List<String> keys, String text) {
+        String key = toKey(text);
+        if (!key.isEmpty() && !keys.contains(key)) {
+            keys.add(key);
+            changeCount(key, text.strip(), 1);
+        }
+    }
+
+    private void changeCount(String key, String text, int delta) {
+        List<Node> path = path(key, delta > 0);
+        if (path == null) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        Suggestion current = node.suggestion;
+        long count = (current == null ? 0 : current.count()) + delta;
+        node.suggestion = count > 0
+                ? new Suggestion(key, current == null ? text : current.text(), count)
+                : null;
+        for (int i = path.size() - 1; i > 0; i--) {
+            compact(path.get(i - 1), path.get(i));
+        }
+        root.top = collectTop(root);
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.child(key.charAt(matched));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node(key.substring(matched));
+                node.putChild(child);
+            } else {
+                int common = commonPrefixLength(child.label, key, matched);
+                if (common < child.label.length()) {
+                    if (!create) {
+                        return null;
+                    }
+                    child = split(node, child, common);
+                }
+            }
+            path.add(child);
+            node = child;
+            matched += child.label.length();
+        }
+        return path;
+    }
+
+    private Node split(Node parent, Node child, int at) {
+        Node head = new Node(child.label.substring(0, at));
+        head.children = new Node[]{child.withLabel(child.label.substring(at))};
+        parent.putChild(head);
+        return head;
+    }
+
+    private void compact(Node parent, Node node) {
+        Node[] children = node.children;
+        if (node.suggestion == null && children.length == 0) {
+            parent.removeChild(node.label.charAt(0));
+        } else if (node.suggestion == null && children.length == 1) {
+            parent.putChild(children[0].withLabel(node.label + children[0].label));
+        } else {
+            node.top = children.length == 0 ? List.of() : collectTop(node);
+        }
+    }
+
+    private List<Suggestion> collectTop(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.suggestion != null) {
+            candidates.add(node.suggestion);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(child.top());
+        }
+        candidates.sort(BY_POPULARITY);
+        return List.copyOf(candidates.subList(0, Math.min(candidates.size(), MAX_SUGGESTIONS)));
+    }
+
+    private int countNodes(Node node) {
+        int count = 1;
+        for (Node child : node.children) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static int commonPrefixLength(String label, String key, int from) {
+        int length = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private String toKey(String text) {
+        return String.join(" ", SearchTokenizer.tokenize(text));
+    }
+
+    private record Suggestion(String key, String text, long count) {
+    }
+
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private final String label;
+        private volatile Node[] children = NO_CHILDREN;
+        private volatile Suggestion suggestion;
+        private volatile List<Suggestion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private List<Suggestion> top() {
+            if (children.length > 0) {
+                return top;
+            }
+            Suggestion leaf = suggestion;
+            return leaf == null ? List.of() : List.of(leaf);
+        }
+
+        private Node child(char first) {
+            Node[] nodes = children;
+            int index = indexOf(nodes, first);
+            return index < 0 ? null : nodes[index];
+        }
+
+        private void putChild(Node child) {
+            Node[] nodes = children;
+            int index = indexOf(nodes, child.label.charAt(0));
+            if (index >= 0) {
+                Node[] updated = nodes.clone();
+                updated[index] = child;
+                children = updated;
+                return;
+            }
+            int insertAt = -index - 1;
+            Node[] updated = new Node[nodes.length + 1];
+            System.arraycopy(nodes, 0, updated, 0, insertAt);
+            updated[insertAt] = child;
+            System.arraycopy(nodes, insertAt, updated, insertAt + 1, nodes.length - insertAt);
+            children = updated;
+        }
+
+        private void removeChild(char first) {
+            Node[] nodes = children;
+            int index = indexOf(nodes, first);
+            if (index < 0) {
+                return;
+            }
+            Node[] updated = new Node[nodes.length - 1];
+            System.arraycopy(nodes, 0, updated, 0, index);
+            System.arraycopy(nodes, index + 1, updated, index, nodes.length - index - 1);
+            children = updated.length == 0 ? NO_CHILDREN : updated;
+        }
+
+        private Node withLabel(String newLabel) {
+            Node node = new Node(newLabel);
+            node.children = children;
+            node.suggestion = suggestion;
+            node.top = top;
+            return node;
+        }
+
+        private static int indexOf(Node[] nodes, char first) {
+            int low = 0;
+            int high = nodes.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midFirst = nodes[mid].label.charAt(0);
+                if (midFirst < first) {
+                    low = mid + 1;
+                } else if (midFirst > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package mate.academy.spring.boot.security;
 
 import lombok.RequiredArgsConstructor;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.model.User;
 import mate.academy.spring.boot.repository.user.UserRepository;
+import org.hibernate.Hibernate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -14,9 +17,12 @@ public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmailWithRoles(username)
+        User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find user by email: " + username));
+        Hibernate.initialize(user.getRoles());
+        return user;
     }
 }
@@ -0,0 +1,11 @@
+package mate.academy.spring.boot.service;
+
+import java.time.Duration;
+import mate.academy.spring.boot.dto.archive.ArchiveResultDto;
+
+public interface ArchiveService {
+
+    ArchiveResultDto archiveDeleted();
+
+    ArchiveResultDto archiveDeleted(Duration retention);
+}
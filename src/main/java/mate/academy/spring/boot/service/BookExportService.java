@@ -0,0 +1,10 @@
+package mate.academy.spring.boot.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import mate.academy.spring.boot.dto.book.BookExportFormat;
+
+public interface BookExportService {
+
+    void export(BookExportFormat format, OutputStream outputStream) throws IOException;
+}
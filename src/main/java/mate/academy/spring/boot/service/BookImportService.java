@@ -0,0 +1,14 @@
+package mate.academy.spring.boot.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import mate.academy.spring.boot.dto.book.BookImportResultDto;
+import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
+
+public interface BookImportService {
+
+    BookImportResultDto importBooks(List<CreateBookRequestDto> requestDtos);
+
+    BookImportResultDto importCsv(InputStream inputStream) throws IOException;
+}
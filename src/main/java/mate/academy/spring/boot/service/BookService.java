@@ -1,12 +1,16 @@
 package mate.academy.spring.boot.service;
 
 import java.util.List;
+import mate.academy.spring.boot.dto.book.BookBatchDto;
 import mate.academy.spring.boot.dto.book.BookDto;
 import mate.academy.spring.boot.dto.book.BookDtoWithoutCategoryIds;
+import mate.academy.spring.boot.dto.book.BookFacetsDto;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
 import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
+import mate.academy.spring.boot.dto.page.CursorPageDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,17 +18,32 @@ public interface BookService {
 
     BookDto save(CreateBookRequestDto requestDto);
 
-    List<BookDto> findAll(Pageable pageable);
+    Slice<BookDto> findAll(Pageable pageable);
+
+    CursorPageDto<BookDto> findAll(String after, Pageable pageable);
 
     BookDto findById(Long id);
 
+    BookBatchDto findAllByIds(List<Long> ids);
+
+    String getEtag(Long id);
+
     List<BookDto> getAllByTitle(String title);
 
     void deleteById(Long id);
 
-    List<BookDto> searchBooks(BookSearchParameters bookSearchParameters, Pageable pageable);
+    Slice<BookDto> searchBooks(BookSearchParameters bookSearchParameters, Pageable pageable);
+
+    CursorPageDto<BookDto> searchBooks(BookSearchParameters bookSearchParameters,
+                                       String after, Pageable pageable);
+
+    BookFacetsDto getFacets(BookSearchParameters bookSearchParameters);
+
+    List<BookDto> fullTextSearch(String query, Pageable pageable);
+
+    List<String> suggest(String prefix, int limit);
 
     BookDto update(Long id, UpdateBookRequestDto requestDto);
 
-    List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id);
+    List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id, Long afterId, Pageable pageable);
 }
@@ -7,8 +7,12 @@ import mate.academy.spring.boot.dto.category.CategoryRequestDto;
 public interface CategoryService {
     List<CategoryDto> findAll();
 
+    byte[] findAllAsJson();
+
     CategoryDto getById(Long id);
 
+    String getEtag(Long id);
+
     CategoryDto save(CategoryRequestDto categoryRequestDto);
 
     CategoryDto update(Long id, CategoryRequestDto categoryRequestDto);
@@ -0,0 +1,13 @@
+package mate.academy.spring.boot.service;
+
+import java.io.IOException;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.storage.CoverImage;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface CoverImageService {
+
+    BookDto uploadCover(Long bookId, MultipartFile file) throws IOException;
+
+    CoverImage getCover(Long bookId, boolean thumbnail) throws IOException;
+}
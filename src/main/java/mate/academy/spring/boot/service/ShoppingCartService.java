@@ -1,5 +1,7 @@
 package mate.academy.spring.boot.service;
 
+import java.util.List;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
 
@@ -8,7 +10,11 @@ public interface ShoppingCartService {
 
     ShoppingCartDto addBookToCart(Long userId, CartItemRequestDto cartItemRequestDto);
 
+    ShoppingCartDto applyOperations(Long userId, List<CartItemOperationDto> operations);
+
     ShoppingCartDto updateCartItemQuantity(Long userId, Long cartItemId, Integer quantity);
 
     void deleteCartItem(Long userId, Long id);
+
+    void flushCart(Long userId);
 }
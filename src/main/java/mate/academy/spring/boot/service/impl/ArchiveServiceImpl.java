@@ -0,0 +1,108 @@
+package mate.academy.spring.boot.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.archive.ArchiveResultDto;
+import mate.academy.spring.boot.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+    private static final String DELETED_BEFORE = "WHERE is_deleted = true"
+            + " AND deleted_at < TIMESTAMPADD(SECOND, -:retention, NOW())";
+    private static final ArchiveTable USERS = new ArchiveTable(
+            "SELECT id FROM users u " + DELETED_BEFORE
+                    + " AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.user_id = u.id)"
+                    + " ORDER BY id LIMIT :limit FOR UPDATE",
+            List.of("DELETE ci FROM cart_items ci"
+                            + " JOIN shopping_carts sc ON ci.shopping_cart_id = sc.id"
+                            + " WHERE sc.user_id IN (:ids)",
+                    "DELETE FROM shopping_carts WHERE user_id IN (:ids)",
+                    "INSERT INTO users_roles_archive (user_id, role_id, archived_at)"
+                            + " SELECT user_id, role_id, NOW() FROM users_roles"
+                            + " WHERE user_id IN (:ids)",
+                    "DELETE FROM users_roles WHERE user_id IN (:ids)",
+                    "INSERT INTO users_archive (id, email, password, first_name, last_name,"
+                            + " shipping_address, deleted_at, archived_at)"
+                            + " SELECT id, email, password, first_name, last_name,"
+                            + " shipping_address, deleted_at, NOW() FROM users"
+                            + " WHERE id IN (:ids)",
+                    "DELETE FROM users WHERE id IN (:ids)"));
+    private static final ArchiveTable BOOKS = new ArchiveTable(
+            "SELECT id FROM books b " + DELETED_BEFORE
+                    + " AND NOT EXISTS (SELECT 1 FROM order_items oi WHERE oi.book_id = b.id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM cart_items ci WHERE ci.book_id = b.id)"
+                    + " ORDER BY id LIMIT :limit FOR UPDATE",
+            List.of("INSERT INTO books_categories_archive (book_id, category_id, archived_at)"
+                            + " SELECT book_id, category_id, NOW() FROM books_categories"
+                            + " WHERE book_id IN (:ids)",
+                    "DELETE FROM books_categories WHERE book_id IN (:ids)",
+                    "INSERT INTO books_archive (id, title, author, isbn, price, description,"
+                            + " cover_image, version, deleted_at, archived_at)"
+                            + " SELECT id, title, author, isbn, price, description,"
+                            + " cover_image, version, deleted_at, NOW() FROM books"
+                            + " WHERE id IN (:ids)",
+                    "DELETE FROM books WHERE id IN (:ids)"));
+    private static final ArchiveTable CATEGORIES = new ArchiveTable(
+            "SELECT id FROM categories " + DELETED_BEFORE
+                    + " ORDER BY id LIMIT :limit FOR UPDATE",
+            List.of("INSERT INTO books_categories_archive (book_id, category_id, archived_at)"
+                            + " SELECT book_id, category_id, NOW() FROM books_categories"
+                            + " WHERE category_id IN (:ids)",
+                    "DELETE FROM books_categories WHERE category_id IN (:ids)",
+                    "INSERT INTO categories_archive (id, name, description, version,"
+                            + " deleted_at, archived_at)"
+                            + " SELECT id, name, description, version, deleted_at, NOW()"
+                            + " FROM categories WHERE id IN (:ids)",
+                    "DELETE FROM categories WHERE id IN (:ids)"));
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    @Value("${archive.retention}")
+    private Duration retention;
+    @Value("${archive.batch-size}")
+    private int batchSize;
+
+    @Override
+    @Scheduled(cron = "${archive.cron}")
+    public ArchiveResultDto archiveDeleted() {
+        return archiveDeleted(retention);
+    }
+
+    @Override
+    public ArchiveResultDto archiveDeleted(Duration retention) {
+        int users = archive(USERS, retention);
+        int books = archive(BOOKS, retention);
+        int categories = archive(CATEGORIES, retention);
+        return new ArchiveResultDto(users, books, categories);
+    }
+
+    private int archive(ArchiveTable table, Duration retention) {
+        int archived = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> archiveChunk(table, retention));
+            archived += chunk;
+        } while (chunk == batchSize);
+        return archived;
+    }
+
+    private int archiveChunk(ArchiveTable table, Duration retention) {
+        List<Long> ids = jdbcTemplate.queryForList(table.selectIds(),
+                Map.of("retention", retention.toSeconds(), "limit", batchSize), Long.class);
+        if (!ids.isEmpty()) {
+            Map<String, List<Long>> parameters = Map.of("ids", ids);
+            table.moveStatements().forEach(sql -> jdbcTemplate.update(sql, parameters));
+        }
+        return ids.size();
+    }
+
+    private record ArchiveTable(String selectIds, List<String> moveStatements) {
+    }
+}
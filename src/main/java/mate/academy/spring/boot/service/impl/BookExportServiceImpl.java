@@ -0,0 +1,86 @@
+package mate.academy.spring.boot.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.dto.book.BookExportFormat;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
+import mate.academy.spring.boot.service.BookExportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class BookExportServiceImpl implements BookExportService {
+    private static final String CSV_HEADER =
+            "id,title,author,isbn,price,description,coverImage";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(BookExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<BookRow> rows = bookRepository.streamAllRows()) {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == BookExportFormat.CSV) {
+                writeCsv(rows.iterator(), writer);
+            } else {
+                writeNdjson(rows.iterator(), writer);
+            }
+            writer.flush();
+        }
+    }
+
+    private void writeNdjson(Iterator<BookRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            generator.writeObject(rows.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<BookRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            BookRow row = rows.next();
+            writer.write(String.join(",",
+                    String.valueOf(row.id()),
+                    toCsvField(row.title()),
+                    toCsvField(row.author()),
+                    toCsvField(row.isbn()),
+                    row.price() == null ? "" : row.price().toPlainString(),
+                    toCsvField(row.description()),
+                    toCsvField(row.coverImage())));
+            writer.write('\n');
+        }
+    }
+
+    private String toCsvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"")
+                || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,245 @@
+package mate.academy.spring.boot.service.impl;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.config.CacheConfig;
+import mate.academy.spring.boot.dto.book.BookImportErrorDto;
+import mate.academy.spring.boot.dto.book.BookImportResultDto;
+import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
+import mate.academy.spring.boot.event.BooksImportedEvent;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.service.BookImportService;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String UPSERT_SQL = "INSERT INTO books"
+            + " (title, author, isbn, price, description, cover_image, is_deleted)"
+            + " VALUES (?, ?, ?, ?, ?, ?, false)"
+            + " ON DUPLICATE KEY UPDATE title = VALUES(title), author = VALUES(author),"
+            + " price = VALUES(price), description = VALUES(description),"
+            + " cover_image = VALUES(cover_image), is_deleted = false, deleted_at = NULL,"
+            + " version = version + 1";
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "title", "author", "isbn", "price");
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionFactory sessionFactory;
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.BOOKS_CACHE, CacheConfig.BOOK_SEARCHES_CACHE},
+            allEntries = true)
+    public BookImportResultDto importBooks(List<CreateBookRequestDto> requestDtos) {
+        List<ImportRow> rows = new ArrayList<>(requestDtos.size());
+        for (int i = 0; i < requestDtos.size(); i++) {
+            rows.add(new ImportRow(i + 1, requestDtos.get(i)));
+        }
+        return importRows(rows, new ArrayList<>(), requestDtos.size());
+    }
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.BOOKS_CACHE, CacheConfig.BOOK_SEARCHES_CACHE},
+            allEntries = true)
+    public BookImportResultDto importCsv(InputStream inputStream) throws IOException {
+        List<List<String>> records = readCsv(new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        List<BookImportErrorDto> errors = new ArrayList<>();
+        if (records.isEmpty()) {
+            return new BookImportResultDto(0, 0, 0, errors);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missingColumns = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missingColumns.isEmpty()) {
+            errors.add(new BookImportErrorDto(1, "Missing columns " + missingColumns));
+            return new BookImportResultDto(records.size() - 1, 0, 0, errors);
+        }
+        List<ImportRow> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            try {
+                rows.add(new ImportRow(i + 1, toRequestDto(records.get(i), columns)));
+            } catch (NumberFormatException e) {
+                errors.add(new BookImportErrorDto(i + 1, "price is not a number"));
+            }
+        }
+        return importRows(rows, errors, records.size() - 1);
+    }
+
+    private BookImportResultDto importRows(List<ImportRow> rows,
+                                           List<BookImportErrorDto> errors, int total) {
+        Map<String, ImportRow> rowsByIsbn = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (ImportRow row : rows) {
+            String violations = validate(row.book());
+            if (violations != null) {
+                errors.add(new BookImportErrorDto(row.number(), violations));
+            } else if (rowsByIsbn.put(row.book().getIsbn(), row) != null) {
+                duplicates++;
+            }
+        }
+        List<ImportRow> uniqueRows = new ArrayList<>(rowsByIsbn.values());
+        List<String> importedIsbns = new ArrayList<>(uniqueRows.size());
+        for (int from = 0; from < uniqueRows.size(); from += CHUNK_SIZE) {
+            List<ImportRow> chunk = uniqueRows.subList(from,
+                    Math.min(from + CHUNK_SIZE, uniqueRows.size()));
+            importedIsbns.addAll(writeChunk(chunk, errors));
+        }
+        if (!importedIsbns.isEmpty()) {
+            sessionFactory.getCache().evictEntityData(Book.class);
+            eventPublisher.publishEvent(new BooksImportedEvent(importedIsbns));
+        }
+        errors.sort(Comparator.comparingInt(BookImportErrorDto::row));
+        return new BookImportResultDto(total, importedIsbns.size(), duplicates, errors);
+    }
+
+    private String validate(CreateBookRequestDto book) {
+        if (book == null) {
+            return "Row is empty";
+        }
+        List<ConstraintViolation<CreateBookRequestDto>> violations = validator.validate(book)
+                .stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .toList();
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private List<String> writeChunk(List<ImportRow> chunk, List<BookImportErrorDto> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    UPSERT_SQL, chunk, chunk.size(),
+                    (statement, row) -> setParameters(statement, row.book())));
+            return chunk.stream()
+                    .map(row -> row.book().getIsbn())
+                    .toList();
+        } catch (DataAccessException e) {
+            return writeRowByRow(chunk, errors);
+        }
+    }
+
+    private List<String> writeRowByRow(List<ImportRow> chunk, List<BookImportErrorDto> errors) {
+        List<String> importedIsbns = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                        UPSERT_SQL, statement -> setParameters(statement, row.book())));
+                importedIsbns.add(row.book().getIsbn());
+            } catch (DataAccessException e) {
+                errors.add(new BookImportErrorDto(row.number(),
+                        e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return importedIsbns;
+    }
+
+    private void setParameters(PreparedStatement statement, CreateBookRequestDto book)
+            throws SQLException {
+        statement.setString(1, book.getTitle());
+        statement.setString(2, book.getAuthor());
+        statement.setString(3, book.getIsbn());
+        statement.setBigDecimal(4, book.getPrice());
+        statement.setString(5, book.getDescription());
+        statement.setString(6, book.getCoverImage());
+    }
+
+    private CreateBookRequestDto toRequestDto(List<String> record, Map<String, Integer> columns) {
+        CreateBookRequestDto requestDto = new CreateBookRequestDto();
+        requestDto.setTitle(getField(record, columns, "title"));
+        requestDto.setAuthor(getField(record, columns, "author"));
+        requestDto.setIsbn(getField(record, columns, "isbn"));
+        String price = getField(record, columns, "price");
+        requestDto.setPrice(price == null ? null : new BigDecimal(price.strip()));
+        requestDto.setDescription(getField(record, columns, "description"));
+        requestDto.setCoverImage(getField(record, columns, "coverimage"));
+        return requestDto;
+    }
+
+    private String getField(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private List<List<String>> readCsv(BufferedReader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int c = reader.read(); c != -1; c = reader.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    reader.reset();
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                if (record.isEmpty() && field.isEmpty()) {
+                    continue;
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!field.isEmpty() || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+
+    private record ImportRow(int number, CreateBookRequestDto book) {
+    }
+}
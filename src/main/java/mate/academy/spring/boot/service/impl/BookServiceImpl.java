@@ -1,19 +1,54 @@
 package mate.academy.spring.boot.service.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.config.BookSearchKeyGenerator;
+import mate.academy.spring.boot.config.CacheConfig;
+import mate.academy.spring.boot.dto.book.BookBatchDto;
 import mate.academy.spring.boot.dto.book.BookDto;
 import mate.academy.spring.boot.dto.book.BookDtoWithoutCategoryIds;
+import mate.academy.spring.boot.dto.book.BookFacetsDto;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
 import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
+import mate.academy.spring.boot.dto.page.CursorPageDto;
+import mate.academy.spring.boot.event.BookDeletedEvent;
+import mate.academy.spring.boot.event.BookSavedEvent;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
 import mate.academy.spring.boot.mapper.BookMapper;
 import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.model.Category;
+import mate.academy.spring.boot.repository.book.BookCategoryRow;
+import mate.academy.spring.boot.repository.book.BookCursorCodec;
 import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
+import mate.academy.spring.boot.repository.book.BookSortProperties;
 import mate.academy.spring.boot.repository.book.BookSpecificationBuilder;
+import mate.academy.spring.boot.repository.book.BookVersionRow;
+import mate.academy.spring.boot.search.BookSearchIndex;
+import mate.academy.spring.boot.search.BookSuggestionIndex;
 import mate.academy.spring.boot.service.BookService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,25 +56,41 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final int FACET_LIMIT = 20;
+    private static final int IDS_BATCH_SIZE = 1000;
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder bookSpecificationBuilder;
+    private final BookCursorCodec bookCursorCodec;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestionIndex bookSuggestionIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Caching(put = @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true))
     public BookDto save(CreateBookRequestDto requestDto) {
         Book book = bookMapper.toModel(requestDto);
-        return bookMapper.toDto(bookRepository.save(book));
+        BookDto bookDto = bookMapper.toDto(bookRepository.save(book));
+        eventPublisher.publishEvent(new BookSavedEvent(bookDto));
+        return bookDto;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookDto> findAll(Pageable pageable) {
-        return bookRepository.findAll(pageable).stream()
-                .map(bookMapper::toDto)
-                .toList();
+    public Slice<BookDto> findAll(Pageable pageable) {
+        BookSortProperties.validate(pageable.getSort());
+        return toDtoSlice(bookRepository.findAllRows(Specification.where(null), pageable));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<BookDto> findAll(String after, Pageable pageable) {
+        return scroll(Specification.where(null), after, pageable);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id", sync = true)
     public BookDto findById(Long id) {
         Book book = bookRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Cant find book by id " + id)
@@ -47,39 +98,200 @@ public class BookServiceImpl implements BookService {
         return bookMapper.toDto(book);
     }
 
-    public List<BookDto> getAllByTitle(String title) {
-        return bookRepository.findAllByTitle(title).stream()
-                .map(bookMapper::toDto)
+    @Override
+    @Transactional(readOnly = true)
+    public BookBatchDto findAllByIds(List<Long> ids) {
+        List<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
                 .toList();
+        Map<Long, BookDto> books = new HashMap<>();
+        for (int from = 0; from < requestedIds.size(); from += IDS_BATCH_SIZE) {
+            findAllById(requestedIds.subList(from,
+                    Math.min(from + IDS_BATCH_SIZE, requestedIds.size())))
+                    .forEach((id, book) -> books.put(id, bookMapper.toDto(book)));
+        }
+        List<BookDto> found = new ArrayList<>(books.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            BookDto book = books.get(id);
+            if (book == null) {
+                missingIds.add(id);
+            } else {
+                found.add(book);
+            }
+        }
+        return new BookBatchDto(found, missingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getEtag(Long id) {
+        List<BookVersionRow> rows = bookRepository.findVersionRowsById(id);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Cant find book by id " + id);
+        }
+        StringBuilder etag = new StringBuilder().append(id).append('-')
+                .append(rows.get(0).version());
+        rows.stream()
+                .filter(row -> row.categoryId() != null)
+                .sorted(Comparator.comparing(BookVersionRow::categoryId))
+                .forEach(row -> etag.append('-').append(row.categoryId())
+                        .append('.').append(row.categoryVersion()));
+        return etag.toString();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<BookDto> getAllByTitle(String title) {
+        BookSearchParameters titleParameters = new BookSearchParameters(
+                new String[]{title}, null, null, null, null, null);
+        return toDtosFromRows(bookRepository.findAllRows(
+                bookSpecificationBuilder.build(titleParameters), Pageable.unpaged()).getContent());
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true)
+    })
     public void deleteById(Long id) {
         bookRepository.deleteById(id);
+        eventPublisher.publishEvent(new BookDeletedEvent(id));
     }
 
     @Override
-    public List<BookDto> searchBooks(BookSearchParameters bookSearchParameters, Pageable pageable) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE,
+            keyGenerator = BookSearchKeyGenerator.NAME, sync = true)
+    public Slice<BookDto> searchBooks(BookSearchParameters bookSearchParameters,
+                                      Pageable pageable) {
+        BookSortProperties.validate(pageable.getSort());
         Specification<Book> bookSpecification = bookSpecificationBuilder
                 .build(bookSearchParameters);
-        return bookRepository.findAll(bookSpecification, pageable).stream()
+        return toDtoSlice(bookRepository.findAllRows(bookSpecification, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<BookDto> searchBooks(BookSearchParameters bookSearchParameters,
+                                              String after, Pageable pageable) {
+        return scroll(bookSpecificationBuilder.build(bookSearchParameters), after, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookFacetsDto getFacets(BookSearchParameters bookSearchParameters) {
+        Specification<Book> bookSpecification = bookSpecificationBuilder
+                .build(bookSearchParameters);
+        return new BookFacetsDto(
+                bookRepository.countByCategory(bookSpecification, FACET_LIMIT),
+                bookRepository.countByAuthor(bookSpecification, FACET_LIMIT));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookDto> fullTextSearch(String query, Pageable pageable) {
+        List<Long> ids = bookSearchIndex.search(query, pageable.getOffset(),
+                pageable.getPageSize());
+        Map<Long, Book> books = findAllById(ids);
+        return ids.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
                 .map(bookMapper::toDto)
                 .toList();
     }
 
     @Override
+    public List<String> suggest(String prefix, int limit) {
+        return bookSuggestionIndex.suggest(prefix, limit);
+    }
+
+    @Override
+    @Caching(put = @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true))
     public BookDto update(Long id, UpdateBookRequestDto requestDto) {
         Book book = bookRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Cant find book by id " + id)
         );
         bookMapper.updateModel(book, requestDto);
-        return bookMapper.toDto(bookRepository.save(book));
+        BookDto bookDto = bookMapper.toDto(bookRepository.save(book));
+        eventPublisher.publishEvent(new BookSavedEvent(bookDto));
+        return bookDto;
     }
 
     @Override
-    public List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id) {
-        return bookRepository.findAllByCategoryId(id).stream()
+    @Transactional(readOnly = true)
+    public List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id, Long afterId,
+                                                               Pageable pageable) {
+        Pageable page = PageRequest.of(afterId == null ? pageable.getPageNumber() : 0,
+                pageable.getPageSize());
+        return bookRepository.findAllByCategoryId(id, afterId, page).stream()
                 .map(bookMapper::toDtoWithoutCategories)
                 .toList();
     }
+
+    private CursorPageDto<BookDto> scroll(Specification<Book> specification,
+                                          String after, Pageable pageable) {
+        Sort sort = bookCursorCodec.getKeysetSort(pageable.getSort());
+        KeysetScrollPosition position = bookCursorCodec.decode(after, sort);
+        Window<Book> window = bookRepository.findBy(specification, query -> query
+                .sortBy(sort)
+                .limit(pageable.getPageSize())
+                .scroll(position));
+        List<BookDto> books = toDtos(window.getContent());
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? bookCursorCodec.encode(
+                        (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPageDto<>(books, nextCursor);
+    }
+
+    private Map<Long, Book> findAllById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return bookRepository.findAllWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+    }
+
+    private List<BookDto> toDtos(List<Book> books) {
+        Map<Long, Book> booksWithCategories = findAllById(books.stream()
+                .map(Book::getId)
+                .toList());
+        return books.stream()
+                .map(book -> booksWithCategories.getOrDefault(book.getId(), book))
+                .map(bookMapper::toDto)
+                .toList();
+    }
+
+    private Slice<BookDto> toDtoSlice(Slice<BookRow> rows) {
+        return new SliceImpl<>(toDtosFromRows(rows.getContent()), rows.getPageable(),
+                rows.hasNext());
+    }
+
+    private List<BookDto> toDtosFromRows(List<BookRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<Category>> categories = bookRepository.findCategoryRowsByBookIdIn(
+                rows.stream().map(BookRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(BookCategoryRow::bookId,
+                        Collectors.mapping(this::toCategory, Collectors.toSet())));
+        return rows.stream()
+                .map(row -> {
+                    BookDto bookDto = bookMapper.toDto(row);
+                    bookDto.setCategories(categories.getOrDefault(row.id(), new HashSet<>()));
+                    return bookDto;
+                })
+                .toList();
+    }
+
+    private Category toCategory(BookCategoryRow row) {
+        Category category = new Category();
+        category.setId(row.id());
+        category.setName(row.name());
+        category.setDescription(row.description());
+        return category;
+    }
 }
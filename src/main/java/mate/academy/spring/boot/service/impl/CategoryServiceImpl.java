@@ -1,27 +1,43 @@
 package mate.academy.spring.boot.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.config.CacheConfig;
 import mate.academy.spring.boot.dto.category.CategoryDto;
 import mate.academy.spring.boot.dto.category.CategoryRequestDto;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
 import mate.academy.spring.boot.mapper.CategoryMapper;
+import mate.academy.spring.boot.model.Book;
 import mate.academy.spring.boot.model.Category;
 import mate.academy.spring.boot.repository.category.CategoryRepository;
 import mate.academy.spring.boot.service.CategoryService;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
+    private static final String BOOK_CATEGORIES_ROLE = Book.class.getName() + ".categories";
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
+    private final SessionFactory sessionFactory;
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
 
     @Override
     public List<CategoryDto> findAll() {
-        return categoryRepository.findAll().stream()
-                .map(categoryMapper::toDto)
-                .toList();
+        return getSnapshot().categories();
+    }
+
+    @Override
+    public byte[] findAllAsJson() {
+        return getSnapshot().json().clone();
     }
 
     @Override
@@ -31,24 +47,66 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new EntityNotFoundException("No such category with id: " + id));
     }
 
+    @Override
+    public String getEtag(Long id) {
+        return categoryRepository.findVersionById(id)
+                .map(version -> id + "-" + version)
+                .orElseThrow(() -> new EntityNotFoundException("No such category with id: " + id));
+    }
+
     @Override
     public CategoryDto save(CategoryRequestDto categoryRequestDtoDto) {
         Category category = categoryMapper.toEntity(categoryRequestDtoDto);
         category = categoryRepository.save(category);
+        refreshSnapshot();
         return categoryMapper.toDto(category);
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.BOOKS_CACHE, CacheConfig.BOOK_SEARCHES_CACHE},
+            allEntries = true)
     public CategoryDto update(Long id, CategoryRequestDto categoryRequestDto) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("No such category with id: " + id));
         categoryMapper.updateCategoryFromDto(categoryRequestDto, category);
         categoryRepository.save(category);
+        refreshSnapshot();
         return categoryMapper.toDto(category);
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.BOOKS_CACHE, CacheConfig.BOOK_SEARCHES_CACHE},
+            allEntries = true)
     public void deleteById(Long id) {
         categoryRepository.deleteById(id);
+        sessionFactory.getCache().evictCollectionData(BOOK_CATEGORIES_ROLE);
+        refreshSnapshot();
+    }
+
+    private CategorySnapshot getSnapshot() {
+        CategorySnapshot current = snapshot.get();
+        return current != null ? current : refreshSnapshot();
+    }
+
+    private CategorySnapshot refreshSnapshot() {
+        long generation = snapshotGeneration.incrementAndGet();
+        List<CategoryDto> categories = categoryRepository.findAll().stream()
+                .map(categoryMapper::toDto)
+                .toList();
+        CategorySnapshot loaded = new CategorySnapshot(generation, categories, toJson(categories));
+        return snapshot.accumulateAndGet(loaded, (current, next) ->
+                current == null || current.generation() < next.generation() ? next : current);
+    }
+
+    private byte[] toJson(List<CategoryDto> categories) {
+        try {
+            return objectMapper.writeValueAsBytes(categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize categories snapshot", e);
+        }
+    }
+
+    private record CategorySnapshot(long generation, List<CategoryDto> categories,
+                                    byte[] json) {
     }
 }
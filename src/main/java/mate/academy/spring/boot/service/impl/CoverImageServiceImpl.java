@@ -0,0 +1,51 @@
+package mate.academy.spring.boot.service.impl;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.config.CacheConfig;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.mapper.BookMapper;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.service.BookService;
+import mate.academy.spring.boot.service.CoverImageService;
+import mate.academy.spring.boot.storage.CoverImage;
+import mate.academy.spring.boot.storage.CoverImageStore;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@RequiredArgsConstructor
+@Service
+public class CoverImageServiceImpl implements CoverImageService {
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final BookService bookService;
+    private final CoverImageStore coverImageStore;
+
+    @Override
+    @Caching(put = @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#bookId"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true))
+    public BookDto uploadCover(Long bookId, MultipartFile file) throws IOException {
+        Book book = bookRepository.findById(bookId).orElseThrow(
+                () -> new EntityNotFoundException("Cant find book by id " + bookId)
+        );
+        book.setCoverImage(coverImageStore.store(file));
+        return bookMapper.toDto(bookRepository.save(book));
+    }
+
+    @Override
+    public CoverImage getCover(Long bookId, boolean thumbnail) throws IOException {
+        String key = bookService.findById(bookId).getCoverImage();
+        CoverImage cover = thumbnail
+                ? coverImageStore.getThumbnail(key)
+                : coverImageStore.get(key);
+        if (cover == null) {
+            throw new EntityNotFoundException("Cant find cover image for book " + bookId);
+        }
+        return cover;
+    }
+}
@@ -2,7 +2,6 @@ package mate.academy.spring.boot.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +20,7 @@ import mate.academy.spring.boot.repository.order.OrderRepository;
 import mate.academy.spring.boot.repository.orderitem.OrderItemRepository;
 import mate.academy.spring.boot.repository.shoppingcart.ShoppingCartRepository;
 import mate.academy.spring.boot.service.OrderService;
+import mate.academy.spring.boot.service.ShoppingCartService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +32,7 @@ public class OrderServiceImpl implements OrderService {
     private final ShoppingCartRepository shoppingCartRepository;
     private final OrderItemMapper orderItemMapper;
     private final OrderItemRepository orderItemRepository;
+    private final ShoppingCartService shoppingCartService;
 
     @Override
     public List<OrderDto> getAllOrdersByUserId(Long id, Pageable pageable) {
@@ -54,6 +55,7 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public OrderDto createOrder(Long userId, OrderRequestDto orderRequestDto) {
+        shoppingCartService.flushCart(userId);
         ShoppingCart shoppingCart = shoppingCartRepository.findByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException("Shopping cart"
                         + " not found for user " + userId));
@@ -61,7 +63,7 @@ public class OrderServiceImpl implements OrderService {
             throw new OrderProcessingException("CartItems not found ");
         }
         Order order = orderMapper.toOrder(shoppingCart);
-        order.setTotal(getTotal(shoppingCart));
+        order.setTotal(shoppingCart.getSubtotal());
         order.setOrderTime(LocalDateTime.now());
         order.setUser(shoppingCart.getUser());
         order.setShippingAddress(orderRequestDto.getShippingAddress());
@@ -84,11 +86,4 @@ public class OrderServiceImpl implements OrderService {
         return orderItemMapper.toOrderItemDto(orderItemRepository
                 .findByOrderIdAndItemId(orderId, itemId));
     }
-
-    private BigDecimal getTotal(ShoppingCart shoppingCart) {
-        return shoppingCart.getCartItemSet().stream()
-                .map(item -> item.getBook().getPrice()
-                        .multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
 }
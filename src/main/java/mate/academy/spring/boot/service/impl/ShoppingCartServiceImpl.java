@@ -1,20 +1,26 @@
 package mate.academy.spring.boot.service.impl;
 
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.cart.CartItemChange;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
 import mate.academy.spring.boot.mapper.ShoppingCartMapper;
-import mate.academy.spring.boot.model.Book;
 import mate.academy.spring.boot.model.CartItem;
 import mate.academy.spring.boot.model.ShoppingCart;
 import mate.academy.spring.boot.repository.book.BookRepository;
 import mate.academy.spring.boot.repository.cartitem.CartItemRepository;
 import mate.academy.spring.boot.repository.shoppingcart.ShoppingCartRepository;
 import mate.academy.spring.boot.service.ShoppingCartService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "false",
+        matchIfMissing = true)
 @RequiredArgsConstructor
 @Service
 public class ShoppingCartServiceImpl implements ShoppingCartService {
@@ -33,21 +39,37 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     @Override
     public ShoppingCartDto addBookToCart(Long userId, CartItemRequestDto cartItemRequestDto) {
         ShoppingCart shoppingCart = getShoppingCartByUserId(userId);
-        Book book = bookRepository.findById(cartItemRequestDto.getBookId())
-                .orElseThrow(() -> new EntityNotFoundException("Book not found"));
+        int affectedRows = cartItemRepository.upsertQuantity(shoppingCart.getId(),
+                cartItemRequestDto.getBookId(), cartItemRequestDto.getQuantity());
+        if (affectedRows == 0) {
+            throw new EntityNotFoundException("Book not found");
+        }
+        shoppingCartRepository.adjustTotals(shoppingCart.getId(),
+                cartItemRequestDto.getBookId(), cartItemRequestDto.getQuantity());
+        return getCartByUserId(userId);
+    }
 
-        shoppingCart.getCartItemSet().stream()
-                .filter(item -> item.getBook().getId().equals(book.getId()))
-                .findFirst()
-                .ifPresentOrElse(
-                        existingCartItem -> existingCartItem.setQuantity(
-                                existingCartItem.getQuantity() + cartItemRequestDto.getQuantity()
-                        ),
-                        () -> addNewCartItemToCart(shoppingCart,
-                                book, cartItemRequestDto.getQuantity())
-        );
-        shoppingCartRepository.save(shoppingCart);
-        return shoppingCartMapper.toDto(shoppingCart);
+    @Transactional
+    @Override
+    public ShoppingCartDto applyOperations(Long userId, List<CartItemOperationDto> operations) {
+        ShoppingCart shoppingCart = getShoppingCartByUserId(userId);
+        List<CartItemChange> changes = CartItemChange.fold(operations);
+        List<Long> addedBookIds = changes.stream()
+                .filter(change -> !change.isRemoval())
+                .map(CartItemChange::bookId)
+                .toList();
+        if (!addedBookIds.isEmpty()) {
+            Set<Long> existingIds = bookRepository.findExistingIds(addedBookIds);
+            List<Long> missingIds = addedBookIds.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .toList();
+            if (!missingIds.isEmpty()) {
+                throw new EntityNotFoundException("Books not found: " + missingIds);
+            }
+        }
+        cartItemRepository.applyChanges(shoppingCart.getId(), changes);
+        shoppingCartRepository.refreshTotals(List.of(shoppingCart.getId()));
+        return getCartByUserId(userId);
     }
 
     @Transactional
@@ -55,9 +77,12 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     public ShoppingCartDto updateCartItemQuantity(Long userId, Long id, Integer quantity) {
         ShoppingCart cart = getShoppingCartByUserId(userId);
         CartItem cartItem = findByIdAndShoppingCartId(id, cart.getId());
+        int quantityChange = quantity - cartItem.getQuantity();
         cartItem.setQuantity(quantity);
         cartItemRepository.save(cartItem);
-        return shoppingCartMapper.toDto(cart);
+        shoppingCartRepository.adjustTotals(cart.getId(), cartItem.getBook().getId(),
+                quantityChange);
+        return getCartByUserId(userId);
     }
 
     @Transactional
@@ -66,15 +91,13 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
         ShoppingCart cart = getShoppingCartByUserId(userId);
         CartItem cartItem = findByIdAndShoppingCartId(id, cart.getId());
         cartItemRepository.delete(cartItem);
+        shoppingCartRepository.adjustTotals(cart.getId(), cartItem.getBook().getId(),
+                -cartItem.getQuantity());
     }
 
-    private void addNewCartItemToCart(ShoppingCart shoppingCart, Book book, int quantity) {
-        CartItem newCartItem = new CartItem();
-        newCartItem.setBook(book);
-        newCartItem.setQuantity(quantity);
-        newCartItem.setShoppingCart(shoppingCart);
-        shoppingCart.getCartItemSet().add(newCartItem);
-        cartItemRepository.save(newCartItem);
+    @Override
+    public void flushCart(Long userId) {
+        // every change is already written by its own transaction
     }
 
     private ShoppingCart getShoppingCartByUserId(Long userId) {
@@ -0,0 +1,74 @@
+package mate.academy.spring.boot.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import mate.academy.spring.boot.cart.CartItemChange;
+import mate.academy.spring.boot.cart.WriteBehindCartStore;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
+import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
+import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
+import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.mapper.ShoppingCartMapper;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.service.ShoppingCartService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Service
+public class WriteBehindShoppingCartServiceImpl implements ShoppingCartService {
+    private final WriteBehindCartStore cartStore;
+    private final ShoppingCartMapper shoppingCartMapper;
+    private final BookRepository bookRepository;
+
+    @Override
+    public ShoppingCartDto getCartByUserId(Long userId) {
+        return shoppingCartMapper.toDto(cartStore.get(userId));
+    }
+
+    @Override
+    public ShoppingCartDto addBookToCart(Long userId, CartItemRequestDto cartItemRequestDto) {
+        Book book = bookRepository.findById(cartItemRequestDto.getBookId())
+                .orElseThrow(() -> new EntityNotFoundException("Book not found"));
+        return shoppingCartMapper.toDto(cartStore.add(userId, book,
+                cartItemRequestDto.getQuantity()));
+    }
+
+    @Override
+    public ShoppingCartDto applyOperations(Long userId, List<CartItemOperationDto> operations) {
+        List<CartItemChange> changes = CartItemChange.fold(operations);
+        List<Long> addedBookIds = changes.stream()
+                .filter(change -> !change.isRemoval())
+                .map(CartItemChange::bookId)
+                .toList();
+        Map<Long, Book> books = bookRepository.findAllById(addedBookIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Long> missingIds = addedBookIds.stream()
+                .filter(id -> !books.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Books not found: " + missingIds);
+        }
+        return shoppingCartMapper.toDto(cartStore.apply(userId, changes, books));
+    }
+
+    @Override
+    public ShoppingCartDto updateCartItemQuantity(Long userId, Long id, Integer quantity) {
+        return shoppingCartMapper.toDto(cartStore.update(userId, id, quantity));
+    }
+
+    @Override
+    public void deleteCartItem(Long userId, Long id) {
+        cartStore.remove(userId, id);
+    }
+
+    @Override
+    public void flushCart(Long userId) {
+        cartStore.flush(userId);
+    }
+}
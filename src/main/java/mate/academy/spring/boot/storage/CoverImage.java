@@ -0,0 +1,6 @@
+package mate.academy.spring.boot.storage;
+
+import java.nio.file.Path;
+
+public record CoverImage(Path path, String contentType, String etag) {
+}
@@ -0,0 +1,167 @@
+package mate.academy.spring.boot.storage;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+import mate.academy.spring.boot.exception.InvalidCoverImageException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Component
+public class CoverImageStore {
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}\\.(jpg|png)");
+    private static final String THUMBNAILS_DIRECTORY = "thumbnails";
+    private static final String THUMBNAIL_ETAG_PREFIX = "thumbnail-";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private final Path root;
+    private final Path thumbnails;
+    private final int thumbnailWidth;
+
+    public CoverImageStore(@Value("${covers.storage-path}") Path root,
+                           @Value("${covers.thumbnail-width}") int thumbnailWidth)
+            throws IOException {
+        this.root = Files.createDirectories(root);
+        this.thumbnails = Files.createDirectories(root.resolve(THUMBNAILS_DIRECTORY));
+        this.thumbnailWidth = thumbnailWidth;
+    }
+
+    public String store(MultipartFile file) throws IOException {
+        Path upload = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            file.transferTo(upload);
+            CoverFormat format = detectFormat(upload);
+            String key = hash(upload) + "." + format.extension;
+            Path target = root.resolve(key);
+            if (!Files.exists(target)) {
+                Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    public boolean isStoreKey(String coverImage) {
+        return coverImage != null && KEY_PATTERN.matcher(coverImage).matches();
+    }
+
+    public CoverImage get(String key) {
+        if (!isStoreKey(key)) {
+            return null;
+        }
+        Path path = root.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        return new CoverImage(path, CoverFormat.of(key).contentType, key);
+    }
+
+    public CoverImage getThumbnail(String key) throws IOException {
+        CoverImage cover = get(key);
+        if (cover == null) {
+            return null;
+        }
+        Path thumbnail = thumbnails.resolve(key);
+        if (!Files.isRegularFile(thumbnail)) {
+            writeThumbnail(cover.path(), thumbnail, CoverFormat.of(key));
+        }
+        return new CoverImage(thumbnail, cover.contentType(), THUMBNAIL_ETAG_PREFIX + key);
+    }
+
+    private void writeThumbnail(Path source, Path target, CoverFormat format)
+            throws IOException {
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("Can't decode cover image " + source.getFileName());
+        }
+        int width = Math.min(thumbnailWidth, image.getWidth());
+        int height = Math.max(1, image.getHeight() * width / image.getWidth());
+        BufferedImage thumbnail = new BufferedImage(width, height, format.imageType);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        Path temp = Files.createTempFile(thumbnails, "thumbnail-", ".tmp");
+        try {
+            ImageIO.write(thumbnail, format.extension, temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private CoverFormat detectFormat(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(CoverFormat.HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.read(header);
+        }
+        for (CoverFormat format : CoverFormat.values()) {
+            if (format.matches(header.array())) {
+                return format;
+            }
+        }
+        throw new InvalidCoverImageException("Cover image must be a JPEG or PNG file");
+    }
+
+    private String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private enum CoverFormat {
+        JPEG("jpg", "image/jpeg", BufferedImage.TYPE_INT_RGB, 0xFF, 0xD8, 0xFF),
+        PNG("png", "image/png", BufferedImage.TYPE_INT_ARGB, 0x89, 'P', 'N', 'G');
+
+        private static final int HEADER_LENGTH = 4;
+        private final String extension;
+        private final String contentType;
+        private final int imageType;
+        private final byte[] signature;
+
+        CoverFormat(String extension, String contentType, int imageType, int... signature) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.imageType = imageType;
+            this.signature = new byte[signature.length];
+            for (int i = 0; i < signature.length; i++) {
+                this.signature[i] = (byte) signature[i];
+            }
+        }
+
+        private boolean matches(byte[] header) {
+            return Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+        }
+
+        private static CoverFormat of(String key) {
+            return key.endsWith("." + PNG.extension) ? PNG : JPEG;
+        }
+    }
+}
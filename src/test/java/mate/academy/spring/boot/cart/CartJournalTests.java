@@ -0,0 +1,103 @@
+package mate.academy.spring.boot.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CartJournalTests {
+    private static final int THREADS = 8;
+    private static final int RECORDS_PER_THREAD = 50;
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Records of rolled segments should be read back in order")
+    void testReadUpTo_AfterRoll_ShouldReturnRecordsInOrder() throws IOException {
+        try (CartJournal journal = new CartJournal(directory)) {
+            journal.append(new CartJournalRecord(1L, 2L, 3));
+            long firstSegment = journal.roll();
+            journal.append(new CartJournalRecord(1L, 2L, 0));
+            long secondSegment = journal.roll();
+
+            assertEquals(List.of(new CartJournalRecord(1L, 2L, 3)),
+                    journal.readUpTo(firstSegment));
+            assertEquals(List.of(new CartJournalRecord(1L, 2L, 3),
+                    new CartJournalRecord(1L, 2L, 0)), journal.readUpTo(secondSegment));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrently synced records should all be on disk once sync returns")
+    void testSync_WithConcurrentWriters_ShouldPersistEveryRecord() throws Exception {
+        try (CartJournal journal = new CartJournal(directory)) {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> writers = new ArrayList<>();
+                for (long cartId = 1; cartId <= THREADS; cartId++) {
+                    long id = cartId;
+                    writers.add(executor.submit(() -> {
+                        for (int quantity = 1; quantity <= RECORDS_PER_THREAD; quantity++) {
+                            journal.sync(journal.append(new CartJournalRecord(id, 1L, quantity)));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            long segment = journal.roll();
+            String content = Files.readString(directory.resolve("cart-journal-" + segment
+                    + ".log"), StandardCharsets.US_ASCII);
+
+            assertEquals(THREADS * RECORDS_PER_THREAD, content.lines().count());
+            assertEquals(THREADS * RECORDS_PER_THREAD,
+                    Set.copyOf(journal.readUpTo(segment)).size());
+        }
+    }
+
+    @Test
+    @DisplayName("A record torn by a crash should be skipped")
+    void testReadUpTo_WithTornRecord_ShouldSkipIt() throws IOException {
+        try (CartJournal journal = new CartJournal(directory)) {
+            journal.append(new CartJournalRecord(1L, 2L, 3));
+            long segment = journal.roll();
+            Files.writeString(directory.resolve("cart-journal-" + segment + ".log"), "1,5,1",
+                    StandardCharsets.US_ASCII, StandardOpenOption.APPEND);
+
+            assertEquals(List.of(new CartJournalRecord(1L, 2L, 3)), journal.readUpTo(segment));
+        }
+    }
+
+    @Test
+    @DisplayName("Deleted segments should not be replayed by a reopened journal")
+    void testDeleteUpTo_WithFlushedSegment_ShouldNotReplayIt() throws IOException {
+        long flushedSegment;
+        try (CartJournal journal = new CartJournal(directory)) {
+            journal.append(new CartJournalRecord(1L, 2L, 3));
+            flushedSegment = journal.roll();
+            journal.append(new CartJournalRecord(1L, 4L, 1));
+            journal.deleteUpTo(flushedSegment);
+        }
+
+        try (CartJournal journal = new CartJournal(directory)) {
+            assertEquals(List.of(new CartJournalRecord(1L, 4L, 1)),
+                    journal.readUpTo(journal.roll()));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package mate.academy.spring.boot.cart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.model.ShoppingCart;
+import mate.academy.spring.boot.repository.shoppingcart.ShoppingCartRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class WriteBehindCartStoreTests {
+    private static final Long USER_ID = 3L;
+    private static final Long CART_ID = 3L;
+    private static final Long BOOK_ID = 1L;
+    private static final Long OTHER_BOOK_ID = 2L;
+    @TempDir
+    private Path journalPath;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ShoppingCartRepository shoppingCartRepository;
+    private WriteBehindCartStore cartStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ShoppingCart shoppingCart = new ShoppingCart();
+        shoppingCart.setId(CART_ID);
+        when(shoppingCartRepository.findByUserId(USER_ID)).thenReturn(Optional.of(shoppingCart));
+        cartStore = createStore();
+    }
+
+    @Test
+    @DisplayName("Repeated adds of a book should be flushed as one row write")
+    void testFlush_AfterRepeatedAdds_ShouldWriteCoalescedQuantity() {
+        cartStore.add(USER_ID, createBook(), 1);
+        CartSnapshot actual = cartStore.add(USER_ID, createBook(), 2);
+        cartStore.flush();
+
+        assertEquals(List.of(new CartLine(null, BOOK_ID, "Book 1", 3)), actual.lines());
+        assertEquals(3, actual.itemCount());
+        assertEquals(new BigDecimal("60.00"), actual.subtotal());
+        verify(shoppingCartRepository).refreshTotals(Set.of(CART_ID));
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, BOOK_ID, 3}),
+                captureBatch("INSERT"));
+    }
+
+    @Test
+    @DisplayName("A cart without changes should not be written")
+    void testFlush_WithoutChanges_ShouldNotWrite() {
+        cartStore.get(USER_ID);
+        cartStore.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Removing a stored item should delete its row on flush")
+    void testFlush_AfterRemove_ShouldDeleteRow() throws Exception {
+        Long itemId = 10L;
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("book_id")).thenReturn(BOOK_ID);
+        when(resultSet.getLong("id")).thenReturn(itemId);
+        when(resultSet.getString("title")).thenReturn("Book 1");
+        when(resultSet.getBigDecimal("price")).thenReturn(new BigDecimal("20.00"));
+        when(resultSet.getInt("quantity")).thenReturn(2);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT ci.id"), any(RowCallbackHandler.class),
+                eq(CART_ID));
+
+        cartStore.remove(USER_ID, itemId);
+        cartStore.flush();
+
+        assertEquals(List.of(), cartStore.get(USER_ID).lines());
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, BOOK_ID}), captureBatch("DELETE"));
+    }
+
+    @Test
+    @DisplayName("Price changes should be reflected in the cached subtotal")
+    void testUpdatePrices_WithCachedBook_ShouldRecomputeSubtotal() {
+        cartStore.add(USER_ID, createBook(), 2);
+
+        cartStore.updatePrices(Map.of(BOOK_ID, new BigDecimal("15.50")));
+
+        assertEquals(new BigDecimal("31.00"), cartStore.get(USER_ID).subtotal());
+    }
+
+    @Test
+    @DisplayName("Updating an item that isn't in the cart should fail")
+    void testUpdate_WithUnknownItem_ShouldThrowEntityNotFoundException() {
+        assertThrows(EntityNotFoundException.class, () -> cartStore.update(USER_ID, 99L, 1));
+    }
+
+    @Test
+    @DisplayName("Changes journaled before a crash should be written on the next start")
+    void testAfterSingletonsInstantiated_WithJournaledChanges_ShouldReplayLatestQuantity()
+            throws IOException {
+        cartStore.add(USER_ID, createBook(), 1);
+        cartStore.add(USER_ID, createBook(), 4);
+
+        createStore().afterSingletonsInstantiated();
+
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, BOOK_ID, 5}),
+                captureBatch("INSERT"));
+    }
+
+    @Test
+    @DisplayName("A row violating a constraint should be dropped and the rest flushed")
+    void testFlush_WithConstraintViolation_ShouldDropRowAndReloadCart() {
+        rejectInsertsOf(OTHER_BOOK_ID);
+        cartStore.add(USER_ID, createBook(), 1);
+        cartStore.add(USER_ID, createBook(OTHER_BOOK_ID), 1);
+
+        cartStore.flush();
+        cartStore.flush();
+
+        assertEquals(List.of(), cartStore.get(USER_ID).lines());
+        verify(shoppingCartRepository, times(2)).findByUserId(USER_ID);
+        verify(shoppingCartRepository).refreshTotals(Set.of(CART_ID));
+        List<List<Object[]>> batches = captureBatches("INSERT", 3);
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, BOOK_ID, 1}), batches.get(1));
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, OTHER_BOOK_ID, 1}),
+                batches.get(2));
+    }
+
+    @Test
+    @DisplayName("A journaled row violating a constraint should not block the replay")
+    void testAfterSingletonsInstantiated_WithConstraintViolation_ShouldReplayOtherRows()
+            throws IOException {
+        cartStore.add(USER_ID, createBook(), 2);
+        cartStore.add(USER_ID, createBook(OTHER_BOOK_ID), 1);
+        rejectInsertsOf(OTHER_BOOK_ID);
+
+        createStore().afterSingletonsInstantiated();
+        createStore().afterSingletonsInstantiated();
+
+        List<List<Object[]>> batches = captureBatches("INSERT", 3);
+        assertRowsEqual(List.<Object[]>of(new Object[]{CART_ID, BOOK_ID, 2}), batches.get(1));
+    }
+
+    private void rejectInsertsOf(Long bookId) {
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> bookId.equals(row[1]))) {
+                throw new DataIntegrityViolationException("Cannot add a child row");
+            }
+            return new int[rows.size()];
+        });
+    }
+
+    private Book createBook() {
+        return createBook(BOOK_ID);
+    }
+
+    private Book createBook(Long id) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("Book " + id);
+        book.setPrice(new BigDecimal("20.00"));
+        return book;
+    }
+
+    private WriteBehindCartStore createStore() throws IOException {
+        return new WriteBehindCartStore(4, journalPath, Duration.ofMinutes(10), jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                shoppingCartRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String statement) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> captureBatches(String statement, int count) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(count)).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static void assertRowsEqual(List<Object[]> expected, List<Object[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -6,10 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,8 +23,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
+import mate.academy.spring.boot.dto.book.BookBatchDto;
 import mate.academy.spring.boot.dto.book.BookDto;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
@@ -33,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -122,6 +129,26 @@ public class BookControllerTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual, "id", "price"));
     }
 
+    @Test
+    @DisplayName("Should return 304 when the ETag matches If-None-Match")
+    @WithMockUser
+    public void testGetFindById_withMatchingETag_shouldReturnNotModified() throws Exception {
+        Long bookId = 1L;
+        String etag = mockMvc.perform(get("/books/{id}", bookId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get("/books/{id}", bookId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertNotNull(etag);
+        assertEquals(0, result.getResponse().getContentLength());
+    }
+
     @Test
     @DisplayName("Should return EntityNotFoundException")
     @WithMockUser
@@ -267,12 +294,113 @@ public class BookControllerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Get books by ids should keep request order and report missing ids")
+    @WithMockUser
+    public void testGetAllByIds_WithMissingId_ShouldReturnBooksInRequestOrder() throws Exception {
+        MvcResult result = mockMvc.perform(get("/books")
+                        .param("ids", "2,99,1"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookBatchDto actual = objectMapper.readValue(result.getResponse().getContentAsString(),
+                BookBatchDto.class);
+
+        assertEquals(List.of("Book 2", "Book 1"), actual.books().stream()
+                .map(BookDto::getTitle)
+                .toList());
+        assertEquals(List.of(99L), actual.missingIds());
+    }
+
+    @Test
+    @DisplayName("Get books by more than 1000 ids should return Bad Request")
+    @WithMockUser
+    public void testGetAllByIds_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+        String ids = LongStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/books")
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Search for books by price range sorted by price")
+    @WithMockUser
+    public void testSearchBooks_ByPriceRange_ShouldReturnMatchingBooks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("minPrice", "25")
+                        .param("maxPrice", "40")
+                        .param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andReturn();
+        List<BookDto> actual = objectMapper.readValue(result.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, BookDto.class));
+
+        assertEquals(1, actual.size());
+        assertEquals("Book 2", actual.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Suggestions with a limit outside 1..10 should return Bad Request")
+    @WithMockUser
+    public void testSuggest_WithOutOfRangeLimit_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/books/suggest")
+                        .param("prefix", "book")
+                        .param("limit", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/books/suggest")
+                        .param("prefix", "book")
+                        .param("limit", "11"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Scrolling sorted by a column without an index should report the sort")
+    @WithMockUser
+    public void testScrollAll_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/books/scroll")
+                        .param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("can't be sorted by"));
+    }
+
+    @Test
+    @DisplayName("CSV export should stream every book as an attachment")
+    @WithMockUser
+    public void testExport_WithCsvFormat_ShouldStreamBooks() throws Exception {
+        MvcResult started = mockMvc.perform(get("/books/export")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=books.csv"))
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains(",Book 1,Author 1,"));
+    }
+
+    @Test
+    @DisplayName("Search sorted by a column without an index should return Bad Request")
+    @WithMockUser
+    public void testSearchBooks_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/books/search")
+                        .param("sort", "description"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Search for books by the author parameter, we are waiting List of BookDto")
     @WithMockUser
     public void testSearchBooks_BySearchParameters_ShouldReturnListOfBookDtos() throws Exception {
         String[] authors = {"Author"};
-        BookSearchParameters searchParams = new BookSearchParameters(null, authors, null);
+        BookSearchParameters searchParams = new BookSearchParameters(null, authors, null,
+                null, null, null);
         String jsonParams = objectMapper.writeValueAsString(searchParams);
         List<BookDto> expected = List.of(
                 getBookDto("Book 1", "Author 1", BigDecimal.valueOf(20.00)),
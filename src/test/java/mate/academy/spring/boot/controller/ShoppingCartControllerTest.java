@@ -16,10 +16,14 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
+import mate.academy.spring.boot.dto.cartitem.CartItemBatchRequestDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemDto;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
 import mate.academy.spring.boot.model.Book;
@@ -134,6 +138,8 @@ public class ShoppingCartControllerTest {
         cartItemDtoSet.add(cartItemDtoFirst);
         cartItemDtoSet.add(cartItemDtoSecond);
         expected.setCartItems(cartItemDtoSet);
+        expected.setItemCount(3);
+        expected.setSubtotal(new BigDecimal("73.00"));
 
         MvcResult result = mockMvc.perform(post("/cart")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -226,6 +232,8 @@ public class ShoppingCartControllerTest {
         assertEquals(expectedCartItem.getBookTitle(), actualCartItem.getBookTitle());
         assertEquals(expectedCartItem.getQuantity(), actualCartItem.getQuantity());
         assertEquals(newQuantity, cartItemToUpdate.getQuantity());
+        assertEquals(newQuantity, actual.getItemCount());
+        assertEquals(new BigDecimal("80.00"), actual.getSubtotal());
     }
 
     @Test
@@ -275,6 +283,45 @@ public class ShoppingCartControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Batch of cart operations should be applied at once")
+    public void testApplyOperations_whenValidInput_shouldReturnFinalShoppingCartDto()
+            throws Exception {
+        CartItemBatchRequestDto requestDto = new CartItemBatchRequestDto();
+        requestDto.setOperations(List.of(
+                getOperation(CartItemOperationDto.Operation.ADD, 2L, 1),
+                getOperation(CartItemOperationDto.Operation.ADD, 2L, 2),
+                getOperation(CartItemOperationDto.Operation.UPDATE, 1L, 5)));
+
+        MvcResult result = mockMvc.perform(post("/cart/items:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ShoppingCartDto actual = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), ShoppingCartDto.class);
+        Map<Long, Integer> quantities = actual.getCartItems().stream()
+                .collect(Collectors.toMap(CartItemDto::getBookId, CartItemDto::getQuantity));
+        assertEquals(Map.of(1L, 5, 2L, 3), quantities);
+        assertEquals(8, actual.getItemCount());
+        assertEquals(new BigDecimal("199.00"), actual.getSubtotal());
+    }
+
+    @Test
+    @DisplayName("Batch with a missing book should not change the cart")
+    public void testApplyOperations_whenBookNotFound_shouldReturnNotFound() throws Exception {
+        CartItemBatchRequestDto requestDto = new CartItemBatchRequestDto();
+        requestDto.setOperations(List.of(
+                getOperation(CartItemOperationDto.Operation.REMOVE, 1L, 0),
+                getOperation(CartItemOperationDto.Operation.ADD, 999L, 1)));
+
+        mockMvc.perform(post("/cart/items:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isNotFound());
+    }
+
     private ShoppingCartDto getShoppingCartDto() {
         ShoppingCartDto shoppingCartDto = new ShoppingCartDto();
         shoppingCartDto.setId(3L);
@@ -284,6 +331,8 @@ public class ShoppingCartControllerTest {
         Set<CartItemDto> cartItemSet = new HashSet<>();
         cartItemSet.add(cartItemDto);
         shoppingCartDto.setCartItems(cartItemSet);
+        shoppingCartDto.setItemCount(2);
+        shoppingCartDto.setSubtotal(new BigDecimal("40.00"));
         return shoppingCartDto;
     }
 
@@ -316,6 +365,15 @@ public class ShoppingCartControllerTest {
         return cartItemDto;
     }
 
+    private CartItemOperationDto getOperation(CartItemOperationDto.Operation operation,
+                                              Long bookId, int quantity) {
+        CartItemOperationDto operationDto = new CartItemOperationDto();
+        operationDto.setOperation(operation);
+        operationDto.setBookId(bookId);
+        operationDto.setQuantity(quantity);
+        return operationDto;
+    }
+
     private CartItemDto getCartItemDto(Long id, Long bookId, String bookTitle, int quantity) {
         CartItemDto cartItemDto = new CartItemDto();
         cartItemDto.setId(id);
@@ -0,0 +1,132 @@
+package mate.academy.spring.boot.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSourceTests {
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaHealthMonitor replicaHealthMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = getDatabase("primary");
+        replica = getDatabase("replica");
+        replicaHealthMonitor = new ReplicaHealthMonitor(new JdbcTemplate(replica), null,
+                Duration.ofSeconds(5));
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica,
+                replicaHealthMonitor, readYourWritesTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("Read-write transactions should use the primary")
+    void testGetConnection_OutsideReadOnlyTransaction_ShouldUsePrimary() throws SQLException {
+        assertEquals("primary", getDatabaseName(routingDataSource));
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should use the replica")
+    void testGetConnection_InReadOnlyTransaction_ShouldUseReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica", getDatabaseName(routingDataSource));
+    }
+
+    @Test
+    @DisplayName("A user who wrote recently should read from the primary, others from the replica")
+    void testGetConnection_AfterUserWrite_ShouldUsePrimaryForThatUser() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        authenticate("writer@example.com");
+        readYourWritesTracker.recordWrite();
+
+        assertEquals("primary", getDatabaseName(routingDataSource));
+        authenticate("reader@example.com");
+        assertEquals("replica", getDatabaseName(routingDataSource));
+    }
+
+    @Test
+    @DisplayName("An unreachable replica should be marked down and the primary used instead")
+    void testGetConnection_WithReplicaDown_ShouldFallBackToPrimary() throws SQLException {
+        DataSource brokenReplica = mock(DataSource.class);
+        when(brokenReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary,
+                brokenReplica, replicaHealthMonitor, readYourWritesTracker);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", getDatabaseName(dataSource));
+        assertFalse(replicaHealthMonitor.isHealthy());
+    }
+
+    @Test
+    @DisplayName("A replica lagging more than the allowed maximum should not be used")
+    void testCheck_WithLagAboveMaximum_ShouldMarkReplicaUnhealthy() {
+        ReplicaHealthMonitor lagging = new ReplicaHealthMonitor(new JdbcTemplate(replica),
+                "SELECT 10", Duration.ofSeconds(5));
+        ReplicaHealthMonitor current = new ReplicaHealthMonitor(new JdbcTemplate(replica),
+                "SELECT 1", Duration.ofSeconds(5));
+
+        lagging.check();
+        current.check();
+
+        assertFalse(lagging.isHealthy());
+        assertTrue(current.isHealthy());
+    }
+
+    @Test
+    @DisplayName("Without a lag query a database that reports no replication status is unhealthy")
+    void testCheck_WithoutReplicaStatus_ShouldMarkReplicaUnhealthy() {
+        replicaHealthMonitor.check();
+
+        assertFalse(replicaHealthMonitor.isHealthy());
+    }
+
+    private EmbeddedDatabase getDatabase(String name) {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+    }
+
+    private String getDatabaseName(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog().toLowerCase();
+        }
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null,
+                        AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
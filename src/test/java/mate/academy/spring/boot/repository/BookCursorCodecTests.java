@@ -0,0 +1,77 @@
+package mate.academy.spring.boot.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import mate.academy.spring.boot.exception.InvalidCursorException;
+import mate.academy.spring.boot.exception.UnsupportedSortException;
+import mate.academy.spring.boot.repository.book.BookCursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+public class BookCursorCodecTests {
+    private final BookCursorCodec bookCursorCodec = new BookCursorCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("Encoded cursor should decode to the same typed keyset")
+    void testDecode_WithEncodedCursor_ShouldReturnSameKeys() {
+        Sort sort = Sort.by("price");
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("id", 42L);
+        keys.put("price", new BigDecimal("19.99"));
+
+        String cursor = bookCursorCodec.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition actual = bookCursorCodec.decode(cursor, sort);
+
+        assertEquals(keys, actual.getKeys());
+    }
+
+    @Test
+    @DisplayName("Missing cursor should start from the first page")
+    void testDecode_WithoutCursor_ShouldReturnInitialPosition() {
+        KeysetScrollPosition actual = bookCursorCodec.decode(null, Sort.by("id"));
+
+        assertTrue(actual.isInitial());
+    }
+
+    @Test
+    @DisplayName("Cursor issued for another sort should be rejected")
+    void testDecode_WithCursorForOtherSort_ShouldThrowInvalidCursorException() {
+        String cursor = bookCursorCodec.encode(ScrollPosition.forward(Map.of("id", 1L)));
+
+        assertThrows(InvalidCursorException.class,
+                () -> bookCursorCodec.decode(cursor, Sort.by("title")));
+    }
+
+    @Test
+    @DisplayName("Malformed cursor should be rejected")
+    void testDecode_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class,
+                () -> bookCursorCodec.decode("not a cursor", Sort.by("id")));
+    }
+
+    @Test
+    @DisplayName("Sorting by a column without an index should be rejected")
+    void testGetKeysetSort_WithUnsupportedProperty_ShouldThrowUnsupportedSortException() {
+        assertThrows(UnsupportedSortException.class,
+                () -> bookCursorCodec.getKeysetSort(Sort.by("description")));
+    }
+
+    @Test
+    @DisplayName("A valid cursor with an unsupported sort should be rejected as a bad sort")
+    void testDecode_WithUnsupportedSort_ShouldThrowUnsupportedSortException() {
+        String cursor = bookCursorCodec.encode(ScrollPosition.forward(
+                Map.of("description", "text", "id", 1L)));
+
+        assertThrows(UnsupportedSortException.class,
+                () -> bookCursorCodec.decode(cursor, Sort.by("description")));
+    }
+}
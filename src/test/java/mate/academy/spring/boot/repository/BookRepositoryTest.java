@@ -4,14 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import mate.academy.spring.boot.dto.book.AuthorFacetDto;
+import mate.academy.spring.boot.dto.book.CategoryFacetDto;
 import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookCategoryRow;
 import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
 import mate.academy.spring.boot.repository.category.CategoryRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.jdbc.Sql;
 
 @DataJpaTest
@@ -35,16 +43,84 @@ public class BookRepositoryTest {
             "classpath:database/remove-books-from-books-table.sql"
     }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void testFindAllByCategoryId_WithExistingCategory_ShouldReturnBooks() {
-        List<Book> result = bookRepository.findAllByCategoryId(1L);
+        List<BookRow> result = bookRepository.findAllByCategoryId(1L, null,
+                PageRequest.of(0, 10));
         assertEquals(2, result.size());
-        assertTrue(result.stream().noneMatch(Book::isDeleted));
+        assertEquals("Book 1", result.get(0).title());
     }
 
     @Test
     @DisplayName("Test findAllByCategoryId should return empty list for a non-existing category")
     void testFindAllByCategoryId_WithNonExistingCategory_ShouldReturnEmptyList() {
         Long nonExistingCategoryId = -1L;
-        List<Book> result = bookRepository.findAllByCategoryId(nonExistingCategoryId);
+        List<BookRow> result = bookRepository.findAllByCategoryId(nonExistingCategoryId, null,
+                PageRequest.of(0, 10));
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    @DisplayName("Test findAllByCategoryId should continue after the given book id")
+    @Sql(scripts = {
+            "classpath:database/add-books-to-books-table.sql",
+            "classpath:database/add-categories-to-categories-table.sql",
+            "classpath:database/add-books-categories-to-books-categories-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/remove-books-categories-from-books-categories-table.sql",
+            "classpath:database/remove-categories-from-categories-table.sql",
+            "classpath:database/remove-books-from-books-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testFindAllByCategoryId_WithAfterId_ShouldReturnNextPage() {
+        List<BookRow> result = bookRepository.findAllByCategoryId(1L, 1L, PageRequest.of(0, 1));
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Test findAllRows should project sorted pages with their category rows")
+    @Sql(scripts = {
+            "classpath:database/add-books-to-books-table.sql",
+            "classpath:database/add-categories-to-categories-table.sql",
+            "classpath:database/add-books-categories-to-books-categories-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/remove-books-categories-from-books-categories-table.sql",
+            "classpath:database/remove-categories-from-categories-table.sql",
+            "classpath:database/remove-books-from-books-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testFindAllRows_WithSortedPage_ShouldReturnProjectedRows() {
+        Slice<BookRow> slice = bookRepository.findAllRows(Specification.where(null),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price")));
+        List<BookRow> rows = slice.getContent();
+        List<BookCategoryRow> categoryRows = bookRepository.findCategoryRowsByBookIdIn(
+                List.of(rows.get(0).id()));
+
+        assertEquals(1, rows.size());
+        assertEquals("Book 2", rows.get(0).title());
+        assertEquals(1, categoryRows.size());
+        assertEquals("Fiction", categoryRows.get(0).name());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test facet counts should group the filtered books by category and author")
+    @Sql(scripts = {
+            "classpath:database/add-books-to-books-table.sql",
+            "classpath:database/add-categories-to-categories-table.sql",
+            "classpath:database/add-books-categories-to-books-categories-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/remove-books-categories-from-books-categories-table.sql",
+            "classpath:database/remove-categories-from-categories-table.sql",
+            "classpath:database/remove-books-from-books-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testCountByCategoryAndAuthor_WithBooks_ShouldReturnFacetCounts() {
+        Specification<Book> byAuthor = (root, query, criteriaBuilder) ->
+                root.get("author").in("Author 1");
+
+        assertEquals(List.of(new CategoryFacetDto(1L, "Fiction", 2L)),
+                bookRepository.countByCategory(Specification.where(null), 10));
+        assertEquals(List.of(new AuthorFacetDto("Author 1", 1L)),
+                bookRepository.countByAuthor(byAuthor, 10));
+    }
 }
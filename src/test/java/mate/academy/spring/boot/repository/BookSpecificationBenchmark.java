@@ -0,0 +1,111 @@
+package mate.academy.spring.boot.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import mate.academy.spring.boot.dto.book.BookSearchParameters;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookSpecificationBuilder;
+import mate.academy.spring.boot.repository.book.BookSpecificationProviderManager;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSpecificationBenchmark {
+    private final BookSearchParameters searchParameters = new BookSearchParameters(
+            new String[]{"Dune"}, new String[]{"Frank Herbert"}, null,
+            BigDecimal.ONE, BigDecimal.TEN, new Long[]{1L, 2L});
+    @Param({"false", "true"})
+    private boolean planCacheEnabled;
+    private AnnotationConfigApplicationContext context;
+    private EmbeddedDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private BookSpecificationBuilder bookSpecificationBuilder;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.scan("mate.academy.spring.boot.repository.book.spec");
+        context.register(BookSpecificationProviderManager.class, BookSpecificationBuilder.class);
+        context.refresh();
+        bookSpecificationBuilder = context.getBean(BookSpecificationBuilder.class);
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("books-" + planCacheEnabled + ";MODE=MySQL")
+                .build();
+        LocalContainerEntityManagerFactoryBean factoryBean =
+                new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(database);
+        factoryBean.setPackagesToScan("mate.academy.spring.boot.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy",
+                CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.criteria.plan_cache_enabled", planCacheEnabled));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+        entityManagerFactory.close();
+        database.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public List<Book> search() {
+        Specification<Book> bookSpec = bookSpecificationBuilder.build(searchParameters);
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Book> query = criteriaBuilder.createQuery(Book.class);
+        Root<Book> root = query.from(Book.class);
+        query.where(bookSpec.toPredicate(root, query, criteriaBuilder));
+        List<Book> books = entityManager.createQuery(query).getResultList();
+        entityManager.clear();
+        return books;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookSpecificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
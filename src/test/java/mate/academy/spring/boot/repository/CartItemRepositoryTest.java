@@ -0,0 +1,121 @@
+package mate.academy.spring.boot.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import mate.academy.spring.boot.repository.cartitem.CartItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CartItemRepositoryTest {
+    private static final Long CART_ID = 3L;
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 25;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void beforeEach(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/add-users-to-users-table.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/add-books-to-books-table.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource(
+                        "database/add-shopping-carts-to-shopping-carts-table.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/add-cart-items-to-cart-items-table.sql"));
+        }
+    }
+
+    @AfterEach
+    void afterEach(@Autowired DataSource dataSource) {
+        ShoppingCartRepositoryTest.teardown(dataSource);
+    }
+
+    @Test
+    @DisplayName("Parallel adds of the same book should not lose any increment")
+    @SneakyThrows
+    void testUpsertQuantity_WithParallelAdds_ShouldSumAllQuantities() {
+        Long bookId = 2L;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Callable<Void> addBook = () -> {
+            for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                transactionTemplate.executeWithoutResult(status ->
+                        cartItemRepository.upsertQuantity(CART_ID, bookId, 1));
+            }
+            return null;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(addBook));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Integer> quantities = jdbcTemplate.queryForList(
+                "SELECT quantity FROM cart_items WHERE shopping_cart_id = ? AND book_id = ?",
+                Integer.class, CART_ID, bookId);
+        assertEquals(List.of(THREADS * ADDS_PER_THREAD), quantities);
+    }
+
+    @Test
+    @DisplayName("Adding a book already in the cart should increment its quantity")
+    void testUpsertQuantity_WithExistingItem_ShouldIncrementQuantity() {
+        Long bookId = 1L;
+
+        int affectedRows = new TransactionTemplate(transactionManager).execute(status ->
+                cartItemRepository.upsertQuantity(CART_ID, bookId, 3));
+
+        Integer quantity = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_items WHERE shopping_cart_id = ? AND book_id = ?",
+                Integer.class, CART_ID, bookId);
+        assertEquals(2, affectedRows);
+        assertEquals(5, quantity);
+    }
+
+    @Test
+    @DisplayName("Adding a missing book should not insert a cart item")
+    void testUpsertQuantity_WithMissingBook_ShouldAffectNoRows() {
+        int affectedRows = new TransactionTemplate(transactionManager).execute(status ->
+                cartItemRepository.upsertQuantity(CART_ID, -1L, 1));
+
+        assertEquals(0, affectedRows);
+    }
+}
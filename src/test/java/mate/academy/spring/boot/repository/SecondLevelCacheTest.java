@@ -0,0 +1,130 @@
+package mate.academy.spring.boot.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import mate.academy.spring.boot.mapper.impl.CategoryMapperImpl;
+import mate.academy.spring.boot.model.Category;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.service.CategoryService;
+import mate.academy.spring.boot.service.impl.CategoryServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CategoryServiceImpl.class, CategoryMapperImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Sql(scripts = {
+        "classpath:database/add-books-to-books-table.sql",
+        "classpath:database/add-categories-to-categories-table.sql",
+        "classpath:database/add-books-categories-to-books-categories-table.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = {
+        "classpath:database/remove-books-categories-from-books-categories-table.sql",
+        "classpath:database/remove-categories-from-categories-table.sql",
+        "classpath:database/remove-books-from-books-table.sql"
+}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class SecondLevelCacheTest {
+    private static final Long BOOK_ID = 1L;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private SessionFactory sessionFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("A book and its categories loaded twice should be served from the cache")
+    void testFindById_LoadedTwice_ShouldHitSecondLevelCache() {
+        loadCategoryIds(BOOK_ID);
+        loadCategoryIds(BOOK_ID);
+
+        assertRegion("book", 1, 1);
+        assertRegion("book-categories", 1, 1);
+    }
+
+    @Test
+    @DisplayName("Soft-deleting a book should evict its entity and categories entries")
+    void testDeleteById_WithCachedBook_ShouldEvictBookAndCategories() {
+        loadCategoryIds(BOOK_ID);
+        transactionTemplate.executeWithoutResult(status -> bookRepository.deleteById(BOOK_ID));
+        statistics.clear();
+
+        assertTrue(transactionTemplate.execute(status -> bookRepository.findById(BOOK_ID))
+                .isEmpty());
+        jdbcTemplate.update("UPDATE books SET is_deleted = FALSE WHERE id = ?", BOOK_ID);
+        loadCategoryIds(BOOK_ID);
+
+        assertRegion("book", 0, 2);
+        assertRegion("book-categories", 0, 1);
+    }
+
+    @Test
+    @DisplayName("Soft-deleting a category should drop it from cached book categories")
+    void testDeleteCategory_WithCachedBookCategories_ShouldDropCategory() {
+        jdbcTemplate.update("INSERT INTO books_categories (book_id, category_id) VALUES (?, 2)",
+                BOOK_ID);
+        assertEquals(Set.of(1L, 2L), loadCategoryIds(BOOK_ID));
+
+        categoryService.deleteById(1L);
+        statistics.clear();
+
+        assertEquals(Set.of(2L), loadCategoryIds(BOOK_ID));
+        assertRegion("book", 1, 0);
+        assertRegion("book-categories", 0, 1);
+    }
+
+    private Set<Long> loadCategoryIds(Long bookId) {
+        return transactionTemplate.execute(status -> bookRepository.findById(bookId)
+                .orElseThrow()
+                .getCategories().stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private void assertRegion(String region, long hits, long misses) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        assertEquals(hits, regionStatistics.getHitCount(), region + " hits");
+        assertEquals(misses, regionStatistics.getMissCount(), region + " misses");
+    }
+}
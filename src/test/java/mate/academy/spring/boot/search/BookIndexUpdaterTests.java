@@ -0,0 +1,59 @@
+package mate.academy.spring.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import mate.academy.spring.boot.event.BooksImportedEvent;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookIndexUpdaterTests {
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("Rebuild should page through books by the last indexed id")
+    void testRebuild_WithSeveralBatches_ShouldIndexAllBooks() {
+        BookSuggestionIndex suggestionIndex = new BookSuggestionIndex();
+        BookIndexUpdater bookIndexUpdater = new BookIndexUpdater(bookRepository,
+                List.of(suggestionIndex));
+        when(bookRepository.findRowsAfter(isNull(), any())).thenReturn(rows(1, 1000));
+        when(bookRepository.findRowsAfter(eq(1000L), any())).thenReturn(rows(1001, 1001));
+
+        bookIndexUpdater.rebuild();
+
+        assertEquals(List.of("Title 1001"), suggestionIndex.suggest("title 1001", 10));
+        assertEquals(List.of("Title 1"), suggestionIndex.suggest("title 1", 1));
+    }
+
+    @Test
+    @DisplayName("Imported books should be indexed from row projections")
+    void testOnBooksImported_WithImportedIsbns_ShouldIndexRows() {
+        BookSuggestionIndex suggestionIndex = new BookSuggestionIndex();
+        BookIndexUpdater bookIndexUpdater = new BookIndexUpdater(bookRepository,
+                List.of(suggestionIndex));
+        when(bookRepository.findRowsByIsbnIn(List.of("isbn-7"))).thenReturn(rows(7, 7));
+
+        bookIndexUpdater.onBooksImported(new BooksImportedEvent(List.of("isbn-7")));
+
+        assertEquals(List.of("Title 7"), suggestionIndex.suggest("title", 10));
+    }
+
+    private List<BookRow> rows(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new BookRow(id, "Title " + id, "Author", null, null,
+                        null, null))
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package mate.academy.spring.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BookSearchIndexTests {
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex();
+        bookSearchIndex.index(1L, "Effective Java", "Joshua Bloch", "Best practices");
+        bookSearchIndex.index(2L, "Clean Code", "Robert Martin", "Java examples of clean code");
+        bookSearchIndex.index(3L, "Dune", "Frank Herbert", "Science fiction");
+    }
+
+    @Test
+    @DisplayName("Title matches should rank above description matches")
+    void testSearch_WithTermInTitleAndDescription_ShouldRankTitleFirst() {
+        assertEquals(List.of(1L, 2L), bookSearchIndex.search("java", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Search should ignore case and diacritics and respect offset and limit")
+    void testSearch_WithOffsetAndLimit_ShouldReturnRequestedPage() {
+        assertEquals(List.of(2L), bookSearchIndex.search("JÁVA", 1, 1));
+    }
+
+    @Test
+    @DisplayName("Updated and deleted books should be reflected in the index")
+    void testIndex_WithUpdateAndDelete_ShouldRefreshPostings() {
+        bookSearchIndex.index(3L, "Dune Messiah", "Frank Herbert", null);
+        bookSearchIndex.remove(1L);
+
+        assertEquals(List.of(3L), bookSearchIndex.search("messiah", 0, 10));
+        assertTrue(bookSearchIndex.search("fiction", 0, 10).isEmpty());
+        assertEquals(List.of(2L), bookSearchIndex.search("java", 0, 10));
+        assertEquals(2, bookSearchIndex.size());
+    }
+}
@@ -0,0 +1,67 @@
+package mate.academy.spring.boot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BookSuggestionIndexTests {
+    private BookSuggestionIndex bookSuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSuggestionIndex = new BookSuggestionIndex();
+        bookSuggestionIndex.index(1L, "Java Concurrency", "Brian Goetz", null);
+        bookSuggestionIndex.index(2L, "Effective Java", "Joshua Bloch", null);
+        bookSuggestionIndex.index(3L, "Java Puzzlers", "Joshua Bloch", null);
+    }
+
+    @Test
+    @DisplayName("Suggestions should be ordered by popularity, then alphabetically")
+    void testSuggest_WithSharedPrefix_ShouldOrderByPopularity() {
+        assertEquals(List.of("Joshua Bloch", "Java Concurrency", "Java Puzzlers"),
+                bookSuggestionIndex.suggest("j", 10));
+        assertEquals(List.of("Joshua Bloch"), bookSuggestionIndex.suggest("J", 1));
+    }
+
+    @Test
+    @DisplayName("Non-positive limit should return no suggestions")
+    void testSuggest_WithNegativeLimit_ShouldReturnEmptyList() {
+        assertTrue(bookSuggestionIndex.suggest("j", -1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Prefix should be matched ignoring case and punctuation")
+    void testSuggest_WithUnnormalizedPrefix_ShouldMatch() {
+        assertEquals(List.of("Java Puzzlers"), bookSuggestionIndex.suggest("JAVA-pu", 10));
+    }
+
+    @Test
+    @DisplayName("Removed books should drop out of suggestions")
+    void testRemove_WithIndexedBook_ShouldUpdateSuggestions() {
+        bookSuggestionIndex.remove(3L);
+        bookSuggestionIndex.index(1L, "Concurrency in Practice", "Brian Goetz", null);
+
+        assertEquals(List.of("Joshua Bloch"), bookSuggestionIndex.suggest("j", 10));
+        assertTrue(bookSuggestionIndex.suggest("java p", 10).isEmpty());
+        assertEquals(List.of("Concurrency in Practice"), bookSuggestionIndex.suggest("con", 10));
+    }
+
+    @Test
+    @DisplayName("Keys should share compressed prefix nodes and release them on removal")
+    void testNodeCount_WithSharedPrefixes_ShouldStayCompressed() {
+        assertEquals(8, bookSuggestionIndex.nodeCount());
+
+        bookSuggestionIndex.index(4L, "Java", "Brian Goetz", null);
+        assertEquals(9, bookSuggestionIndex.nodeCount());
+        assertEquals(List.of("Java", "Java Concurrency", "Java Puzzlers"),
+                bookSuggestionIndex.suggest("ja", 10));
+
+        List.of(1L, 2L, 3L, 4L).forEach(bookSuggestionIndex::remove);
+        assertEquals(1, bookSuggestionIndex.nodeCount());
+        assertTrue(bookSuggestionIndex.suggest("j", 10).isEmpty());
+    }
+}
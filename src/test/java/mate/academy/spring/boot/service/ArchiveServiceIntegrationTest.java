@@ -0,0 +1,73 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import mate.academy.spring.boot.dto.archive.ArchiveResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "archive.batch-size=1")
+@Sql(scripts = "classpath:database/add-soft-deleted-rows.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/remove-soft-deleted-rows.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ArchiveServiceIntegrationTest {
+    @Autowired
+    private ArchiveService archiveService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Rows deleted before the retention period without references should be moved")
+    void testArchiveDeleted_WithOldAndReferencedRows_ShouldMoveOnlyUnreferencedOldRows() {
+        ArchiveResultDto actual = archiveService.archiveDeleted(Duration.ofDays(30));
+
+        assertEquals(new ArchiveResultDto(1, 2, 1), actual);
+        assertEquals(List.of(11L, 12L, 13L), ids("SELECT id FROM users"
+                + " WHERE id BETWEEN 10 AND 13 ORDER BY id"));
+        assertEquals(List.of(10L), ids("SELECT id FROM users_archive"
+                + " WHERE id BETWEEN 10 AND 13"));
+        assertEquals(List.of(10L), ids("SELECT user_id FROM users_roles_archive"
+                + " WHERE user_id BETWEEN 10 AND 13"));
+        assertEquals(List.of(13L), ids("SELECT id FROM shopping_carts"
+                + " WHERE id IN (10, 13)"));
+        assertEquals(List.of(11L), ids("SELECT id FROM cart_items WHERE id IN (10, 11)"));
+
+        assertEquals(List.of(20L, 22L, 23L), ids("SELECT id FROM books"
+                + " WHERE id BETWEEN 20 AND 24 ORDER BY id"));
+        assertEquals(List.of(21L, 24L), ids("SELECT id FROM books_archive"
+                + " WHERE id BETWEEN 20 AND 24 ORDER BY id"));
+        assertEquals(List.of(30L, 32L), ids("SELECT id FROM categories"
+                + " WHERE id BETWEEN 30 AND 32 ORDER BY id"));
+        assertEquals(List.of(31L), ids("SELECT id FROM categories_archive"
+                + " WHERE id BETWEEN 30 AND 32"));
+
+        assertEquals(List.of(20L), ids("SELECT book_id FROM books_categories"
+                + " WHERE book_id BETWEEN 20 AND 24 OR category_id BETWEEN 30 AND 32"));
+        assertEquals(List.of(20L, 21L), ids("SELECT book_id FROM books_categories_archive"
+                + " WHERE book_id BETWEEN 20 AND 24 OR category_id BETWEEN 30 AND 32"
+                + " ORDER BY book_id"));
+    }
+
+    @Test
+    @DisplayName("Nothing should be moved while rows are still within the retention period")
+    void testArchiveDeleted_WithLongRetention_ShouldKeepAllRows() {
+        ArchiveResultDto actual = archiveService.archiveDeleted(Duration.ofDays(365));
+
+        assertEquals(new ArchiveResultDto(0, 0, 0), actual);
+        assertEquals(List.of(20L, 21L, 22L, 23L, 24L),
+                ids("SELECT id FROM books WHERE id BETWEEN 20 AND 24 ORDER BY id"));
+        assertEquals(List.of(), ids("SELECT id FROM users_archive"
+                + " WHERE id BETWEEN 10 AND 13"));
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
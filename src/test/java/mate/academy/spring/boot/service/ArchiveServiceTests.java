@@ -0,0 +1,78 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import mate.academy.spring.boot.dto.archive.ArchiveResultDto;
+import mate.academy.spring.boot.service.impl.ArchiveServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class ArchiveServiceTests {
+    private static final Duration RETENTION = Duration.ofDays(30);
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ArchiveServiceImpl(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(archiveService, "batchSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Books should be moved in chunks until a short chunk is selected")
+    void testArchiveDeleted_WithThreeDeletedBooks_ShouldMoveTwoChunks() {
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(Long.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM books"), anyMap(),
+                eq(Long.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        ArchiveResultDto actual = archiveService.archiveDeleted(RETENTION);
+
+        assertEquals(new ArchiveResultDto(0, 3, 0), actual);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM books WHERE"),
+                eq(Map.of("ids", List.of(1L, 2L))));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM books WHERE"),
+                eq(Map.of("ids", List.of(3L))));
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO books_archive"),
+                anyMap());
+    }
+
+    @Test
+    @DisplayName("Nothing should be written when there are no long-deleted rows")
+    void testArchiveDeleted_WithoutDeletedRows_ShouldNotMoveAnything() {
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(Long.class)))
+                .thenReturn(List.of());
+
+        ArchiveResultDto actual = archiveService.archiveDeleted(RETENTION);
+
+        assertEquals(new ArchiveResultDto(0, 0, 0), actual);
+        verify(jdbcTemplate, never()).update(anyString(), anyMap());
+    }
+}
@@ -0,0 +1,79 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import mate.academy.spring.boot.dto.book.BookExportFormat;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
+import mate.academy.spring.boot.service.impl.BookExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookExportServiceTests {
+    @Mock
+    private BookRepository bookRepository;
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        bookExportService = new BookExportServiceImpl(bookRepository, new ObjectMapper());
+        when(bookRepository.streamAllRows()).thenReturn(Stream.of(
+                new BookRow(1L, "Dune", "Frank Herbert", "123", new BigDecimal("9.90"),
+                        null, null),
+                new BookRow(2L, "Cats, Dogs", "A \"Quoted\" Author", null, BigDecimal.ONE,
+                        "Line\nbreak", "cover.png")));
+    }
+
+    @Test
+    @DisplayName("NDJSON export should write one JSON object per line")
+    void testExport_WithNdjsonFormat_ShouldWriteOneObjectPerLine() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportService.export(BookExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"title\":\"Dune\",\"author\":\"Frank Herbert\",\"isbn\":\"123\","
+                + "\"price\":9.90,\"description\":null,\"coverImage\":null}", lines[0]);
+    }
+
+    @Test
+    @DisplayName("CSV export should write a header and escape special characters")
+    void testExport_WithCsvFormat_ShouldEscapeFields() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportService.export(BookExportFormat.CSV, outputStream);
+
+        assertEquals("id,title,author,isbn,price,description,coverImage\n"
+                + "1,Dune,Frank Herbert,123,9.90,,\n"
+                + "2,\"Cats, Dogs\",\"A \"\"Quoted\"\" Author\",,1,\"Line\nbreak\",cover.png\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV export should neutralize cells that a spreadsheet would run as a formula")
+    void testExport_WithFormulaLikeFields_ShouldPrefixThem() throws IOException {
+        when(bookRepository.streamAllRows()).thenReturn(Stream.of(
+                new BookRow(3L, "=HYPERLINK(\"x\")", "@Author", "+1", BigDecimal.TEN,
+                        "-2", null)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportService.export(BookExportFormat.CSV, outputStream);
+
+        assertEquals("id,title,author,isbn,price,description,coverImage\n"
+                + "3,\"'=HYPERLINK(\"\"x\"\")\",'@Author,'+1,10,'-2,\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,127 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import mate.academy.spring.boot.dto.book.BookImportErrorDto;
+import mate.academy.spring.boot.dto.book.BookImportResultDto;
+import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
+import mate.academy.spring.boot.event.BooksImportedEvent;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.service.impl.BookImportServiceImpl;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class BookImportServiceTests {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SessionFactory sessionFactory;
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportServiceImpl(jdbcTemplate, transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher,
+                sessionFactory);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Import should skip invalid rows and keep the last row for a repeated isbn")
+    void testImportBooks_WithInvalidAndDuplicateRows_ShouldReportThem() {
+        List<CreateBookRequestDto> requestDtos = List.of(
+                getRequestDto("Old title", "111"),
+                getRequestDto(null, "222"),
+                getRequestDto("New title", "111"),
+                getRequestDto("Other", "333"));
+
+        BookImportResultDto actual = bookImportService.importBooks(requestDtos);
+
+        ArgumentCaptor<Collection<?>> chunk = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), chunk.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, chunk.getValue().size());
+        assertEquals(new BookImportResultDto(4, 2, 1,
+                List.of(new BookImportErrorDto(2, "title must not be null"))), actual);
+        verify(eventPublisher).publishEvent(new BooksImportedEvent(List.of("111", "333")));
+        verify(sessionFactory.getCache()).evictEntityData(Book.class);
+    }
+
+    @Test
+    @DisplayName("CSV import should parse quoted fields and report malformed prices")
+    void testImportCsv_WithQuotedFields_ShouldImportValidRows() throws IOException {
+        String csv = "isbn,title,author,price\r\n"
+                + "111,\"Cats, Dogs\",\"A \"\"Quoted\"\" Author\",10.50\r\n"
+                + "222,Dune,Frank Herbert,free\r\n"
+                + "\r\n";
+
+        BookImportResultDto actual = bookImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(new BookImportResultDto(2, 1, 0,
+                List.of(new BookImportErrorDto(3, "price is not a number"))), actual);
+        verify(eventPublisher).publishEvent(new BooksImportedEvent(List.of("111")));
+    }
+
+    @Test
+    @DisplayName("A failed batch should be retried row by row to find the broken rows")
+    void testImportBooks_WithFailingBatch_ShouldReportFailedRow() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("batch failed"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("Data too long"))
+                .thenReturn(1);
+
+        BookImportResultDto actual = bookImportService.importBooks(List.of(
+                getRequestDto("Too long", "111"), getRequestDto("Fine", "222")));
+
+        assertEquals(new BookImportResultDto(2, 1, 0,
+                List.of(new BookImportErrorDto(1, "Data too long"))), actual);
+    }
+
+    private CreateBookRequestDto getRequestDto(String title, String isbn) {
+        CreateBookRequestDto requestDto = new CreateBookRequestDto();
+        requestDto.setTitle(title);
+        requestDto.setAuthor("Author");
+        requestDto.setIsbn(isbn);
+        requestDto.setPrice(BigDecimal.TEN);
+        return requestDto;
+    }
+}
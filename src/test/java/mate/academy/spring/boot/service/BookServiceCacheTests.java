@@ -0,0 +1,144 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import mate.academy.spring.boot.config.BookSearchKeyGenerator;
+import mate.academy.spring.boot.config.CacheConfig;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.dto.book.BookSearchParameters;
+import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
+import mate.academy.spring.boot.mapper.BookMapper;
+import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.repository.book.BookCursorCodec;
+import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookSpecificationBuilder;
+import mate.academy.spring.boot.search.BookSearchIndex;
+import mate.academy.spring.boot.search.BookSuggestionIndex;
+import mate.academy.spring.boot.service.impl.BookServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@SpringBootTest(classes = {CacheConfig.class, BookSearchKeyGenerator.class,
+        BookServiceImpl.class})
+public class BookServiceCacheTests {
+    @MockBean
+    private BookRepository bookRepository;
+    @MockBean
+    private BookMapper bookMapper;
+    @MockBean
+    private BookSpecificationBuilder bookSpecificationBuilder;
+    @MockBean
+    private BookCursorCodec bookCursorCodec;
+    @MockBean
+    private BookSearchIndex bookSearchIndex;
+    @MockBean
+    private BookSuggestionIndex bookSuggestionIndex;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.BOOKS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.BOOK_SEARCHES_CACHE).clear();
+        when(bookRepository.findAllRows(any(), any())).thenReturn(new SliceImpl<>(List.of()));
+    }
+
+    @Test
+    @DisplayName("Repeated findById calls should be served from the cache")
+    void testFindById_CalledTwice_ShouldHitRepositoryOnce() {
+        Long id = 1L;
+        Book book = new Book();
+        BookDto expected = new BookDto();
+        expected.setId(id);
+
+        when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(expected);
+        bookService.findById(id);
+        BookDto actual = bookService.findById(id);
+
+        assertEquals(expected, actual);
+        verify(bookRepository, times(1)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Update should replace the cached BookDto")
+    void testUpdate_WithCachedBook_ShouldRefreshCache() {
+        Long id = 1L;
+        Book book = new Book();
+        BookDto cached = new BookDto();
+        cached.setTitle("Old title");
+        BookDto updated = new BookDto();
+        updated.setTitle("New title");
+
+        when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+        when(bookRepository.save(book)).thenReturn(book);
+        when(bookMapper.toDto(book)).thenReturn(cached, updated);
+        bookService.findById(id);
+        bookService.update(id, new UpdateBookRequestDto());
+        BookDto actual = bookService.findById(id);
+
+        assertEquals(updated, actual);
+        verify(bookRepository, times(2)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Delete should evict the cached BookDto")
+    void testDeleteById_WithCachedBook_ShouldEvictEntry() {
+        Long id = 1L;
+        Book book = new Book();
+
+        when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(new BookDto());
+        bookService.findById(id);
+        bookService.deleteById(id);
+
+        assertNull(cacheManager.getCache(CacheConfig.BOOKS_CACHE).get(id));
+    }
+
+    @Test
+    @DisplayName("Equivalent search parameters should share one cached result")
+    void testSearchBooks_WithReorderedParameters_ShouldHitRepositoryOnce() {
+        Pageable pageable = PageRequest.of(0, 10);
+        BookSearchParameters first = new BookSearchParameters(null,
+                new String[]{"Herbert", "Asimov"}, null, new BigDecimal("10.00"), null, null);
+        BookSearchParameters second = new BookSearchParameters(null,
+                new String[]{"Asimov", "Herbert", "Asimov"}, null, BigDecimal.TEN, null, null);
+
+        bookService.searchBooks(first, pageable);
+        bookService.searchBooks(second, pageable);
+
+        verify(bookRepository, times(1)).findAllRows(any(), any());
+    }
+
+    @Test
+    @DisplayName("Book writes should invalidate cached search results")
+    void testSearchBooks_AfterDelete_ShouldHitRepositoryAgain() {
+        Pageable pageable = PageRequest.of(0, 10);
+        BookSearchParameters parameters = new BookSearchParameters(null,
+                new String[]{"Asimov"}, null, null, null, null);
+
+        bookService.searchBooks(parameters, pageable);
+        bookService.deleteById(1L);
+        bookService.searchBooks(parameters, pageable);
+
+        verify(bookRepository, times(2)).findAllRows(any(), any());
+    }
+}
@@ -0,0 +1,69 @@
+package mate.academy.spring.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import mate.academy.spring.boot.dto.book.BookDto;
+import mate.academy.spring.boot.dto.book.BookSearchParameters;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {
+        "classpath:database/add-books-to-books-table.sql",
+        "classpath:database/add-categories-to-categories-table.sql",
+        "classpath:database/add-books-categories-to-books-categories-table.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = {
+        "classpath:database/remove-books-categories-from-books-categories-table.sql",
+        "classpath:database/remove-categories-from-categories-table.sql",
+        "classpath:database/remove-books-from-books-table.sql"
+}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class BookServiceQueryCountTest {
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("findAll should issue the same number of queries for any page size")
+    void testFindAll_WithDifferentPageSizes_ShouldIssueFixedQueryCount() {
+        long singleBookPage = countQueries(() -> bookService.findAll(PageRequest.of(0, 1)));
+        long twoBookPage = countQueries(() -> bookService.findAll(PageRequest.of(0, 2)));
+
+        assertEquals(singleBookPage, twoBookPage);
+        assertEquals(2, singleBookPage);
+    }
+
+    @Test
+    @DisplayName("searchBooks should issue the same number of queries for any page size")
+    void testSearchBooks_WithDifferentPageSizes_ShouldIssueFixedQueryCount() {
+        BookSearchParameters parameters = new BookSearchParameters(null, null, null,
+                null, null, null);
+
+        long singleBookPage = countQueries(
+                () -> bookService.searchBooks(parameters, PageRequest.of(0, 1)));
+        long twoBookPage = countQueries(
+                () -> bookService.searchBooks(parameters, PageRequest.of(0, 2)));
+
+        assertEquals(singleBookPage, twoBookPage);
+    }
+
+    private long countQueries(Supplier<Slice<BookDto>> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Slice<BookDto> books = query.get();
+        books.forEach(book -> assertEquals(1, book.getCategories().size()));
+        return statistics.getPrepareStatementCount();
+    }
+}
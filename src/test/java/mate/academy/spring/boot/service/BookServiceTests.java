@@ -1,26 +1,43 @@
 package mate.academy.spring.boot.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import mate.academy.spring.boot.dto.book.AuthorFacetDto;
+import mate.academy.spring.boot.dto.book.BookBatchDto;
 import mate.academy.spring.boot.dto.book.BookDto;
 import mate.academy.spring.boot.dto.book.BookDtoWithoutCategoryIds;
+import mate.academy.spring.boot.dto.book.BookFacetsDto;
 import mate.academy.spring.boot.dto.book.BookSearchParameters;
+import mate.academy.spring.boot.dto.book.CategoryFacetDto;
 import mate.academy.spring.boot.dto.book.CreateBookRequestDto;
 import mate.academy.spring.boot.dto.book.UpdateBookRequestDto;
+import mate.academy.spring.boot.dto.page.CursorPageDto;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
+import mate.academy.spring.boot.exception.UnsupportedSortException;
 import mate.academy.spring.boot.mapper.BookMapper;
 import mate.academy.spring.boot.model.Book;
+import mate.academy.spring.boot.model.Category;
+import mate.academy.spring.boot.repository.book.BookCategoryRow;
+import mate.academy.spring.boot.repository.book.BookCursorCodec;
 import mate.academy.spring.boot.repository.book.BookRepository;
+import mate.academy.spring.boot.repository.book.BookRow;
 import mate.academy.spring.boot.repository.book.BookSpecificationBuilder;
+import mate.academy.spring.boot.repository.book.BookVersionRow;
+import mate.academy.spring.boot.search.BookSearchIndex;
 import mate.academy.spring.boot.service.impl.BookServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,10 +45,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +64,12 @@ public class BookServiceTests {
     private BookMapper bookMapper;
     @Mock
     private BookSpecificationBuilder bookSpecificationBuilder;
+    @Mock
+    private BookCursorCodec bookCursorCodec;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -92,20 +120,46 @@ public class BookServiceTests {
         assertThrows(EntityNotFoundException.class, () -> bookService.findById(id));
     }
 
+    @Test
+    @DisplayName("""
+            ETag should combine the book version with the versions of its categories""")
+    void testGetEtag_WithCategories_ShouldIncludeCategoryVersions() {
+        when(bookRepository.findVersionRowsById(1L)).thenReturn(List.of(
+                new BookVersionRow(3L, 7L, 2L),
+                new BookVersionRow(3L, 5L, 0L)));
+
+        assertEquals("1-3-5.0-7.2", bookService.getEtag(1L));
+    }
+
+    @Test
+    @DisplayName("""
+            ETag lookup for a missing book should throw EntityNotFoundException""")
+    void testGetEtag_WithIncorrectId_ShouldThrowEntityNotFoundException() {
+        when(bookRepository.findVersionRowsById(1L)).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> bookService.getEtag(1L));
+    }
+
     @Test
     @DisplayName("""
             Test checks whether the method correctly returns a list of objects of type BookDto""")
     void testFindAll_WithCorrectParameters_ShouldReturnListOfBookDto() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Book> books = List.of(new Book());
-        Page<Book> bookPage = new PageImpl<>(books, pageable, books.size());
-        List<BookDto> expected = List.of(new BookDto());
+        BookRow bookRow = getBookRow(1L);
+        BookDto bookDto = new BookDto();
 
-        when(bookRepository.findAll(pageable)).thenReturn(bookPage);
-        when(bookMapper.toDto(any())).thenReturn(expected.get(0));
-        List<BookDto> actual = bookService.findAll(pageable);
+        when(bookRepository.findAllRows(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookRow), pageable, true));
+        when(bookRepository.findCategoryRowsByBookIdIn(List.of(1L)))
+                .thenReturn(List.of(new BookCategoryRow(1L, 2L, "Fiction", null)));
+        when(bookMapper.toDto(bookRow)).thenReturn(bookDto);
+        Slice<BookDto> actual = bookService.findAll(pageable);
 
-        assertEquals(expected, actual);
+        assertEquals(List.of(bookDto), actual.getContent());
+        assertTrue(actual.hasNext());
+        Category actualCategory = actual.getContent().get(0).getCategories().iterator().next();
+        assertEquals(2L, actualCategory.getId());
+        assertEquals("Fiction", actualCategory.getName());
     }
 
     @Test
@@ -145,12 +199,39 @@ public class BookServiceTests {
     void testFindAllByCategoryId_WithNonExistentCategory_ShouldReturnEmptyList() {
         Long categoryId = 1L;
 
-        when(bookRepository.findAllByCategoryId(categoryId)).thenReturn(List.of());
-        List<BookDtoWithoutCategoryIds> actual = bookService.findAllByCategoryId(categoryId);
+        when(bookRepository.findAllByCategoryId(categoryId, null, PageRequest.of(0, 10)))
+                .thenReturn(List.of());
+        List<BookDtoWithoutCategoryIds> actual = bookService.findAllByCategoryId(categoryId,
+                null, PageRequest.of(0, 10));
 
         assertTrue(actual.isEmpty());
     }
 
+    @Test
+    @DisplayName("""
+            Books of a category requested after a book id should ignore the page number""")
+    void testFindAllByCategoryId_WithAfterId_ShouldSeekFromFirstPage() {
+        BookRow bookRow = getBookRow(5L);
+        BookDtoWithoutCategoryIds expected = new BookDtoWithoutCategoryIds();
+
+        when(bookRepository.findAllByCategoryId(1L, 4L, PageRequest.of(0, 20)))
+                .thenReturn(List.of(bookRow));
+        when(bookMapper.toDtoWithoutCategories(bookRow)).thenReturn(expected);
+        List<BookDtoWithoutCategoryIds> actual = bookService.findAllByCategoryId(1L, 4L,
+                PageRequest.of(3, 20));
+
+        assertEquals(List.of(expected), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Sorting by a column without an index should be rejected""")
+    void testFindAll_WithUnsupportedSort_ShouldThrowUnsupportedSortException() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        assertThrows(UnsupportedSortException.class, () -> bookService.findAll(pageable));
+    }
+
     @Test
     @DisplayName("""
             Test checks whether the searchBooks method
@@ -160,21 +241,125 @@ public class BookServiceTests {
         BookSearchParameters parameters = new BookSearchParameters(
                 new String[]{"Author"},
                 new String[]{"Category"},
-                new String[]{"Title"}
+                new String[]{"Title"},
+                null, null, null
         );
         Pageable pageable = PageRequest.of(0, 10);
-        Book book = new Book();
+        BookRow bookRow = getBookRow(1L);
         BookDto bookDto = new BookDto();
         Specification<Book> spec = mock(Specification.class);
-        Page<Book> bookPage = new PageImpl<>(List.of(book), pageable, 1);
 
         when(bookSpecificationBuilder.build(parameters)).thenReturn(spec);
-        when(bookRepository.findAll(spec, pageable)).thenReturn(bookPage);
-        when(bookMapper.toDto(any(Book.class))).thenReturn(bookDto);
-        List<BookDto> actual = bookService.searchBooks(parameters, pageable);
+        when(bookRepository.findAllRows(spec, pageable))
+                .thenReturn(new SliceImpl<>(List.of(bookRow), pageable, false));
+        when(bookMapper.toDto(any(BookRow.class))).thenReturn(bookDto);
+        Slice<BookDto> actual = bookService.searchBooks(parameters, pageable);
         List<BookDto> expected = List.of(bookDto);
 
-        assertEquals(expected, actual);
+        assertEquals(expected, actual.getContent());
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    @DisplayName("""
+            Facets should be counted for the same specification as the search""")
+    void testGetFacets_WithSearchParameters_ShouldReturnCategoryAndAuthorCounts() {
+        BookSearchParameters parameters = new BookSearchParameters(
+                null, new String[]{"Author"}, null, null, null, null);
+        Specification<Book> spec = mock(Specification.class);
+        List<CategoryFacetDto> categories = List.of(new CategoryFacetDto(1L, "Fiction", 2L));
+        List<AuthorFacetDto> authors = List.of(new AuthorFacetDto("Author", 2L));
+
+        when(bookSpecificationBuilder.build(parameters)).thenReturn(spec);
+        when(bookRepository.countByCategory(eq(spec), anyInt())).thenReturn(categories);
+        when(bookRepository.countByAuthor(eq(spec), anyInt())).thenReturn(authors);
+        BookFacetsDto actual = bookService.getFacets(parameters);
+
+        assertEquals(new BookFacetsDto(categories, authors), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Keyset search should return the page together with a cursor for the next page""")
+    void testSearchBooks_WithCursor_ShouldReturnNextCursor() {
+        BookSearchParameters parameters = new BookSearchParameters(
+                null, new String[]{"Author"}, null, null, null, null);
+        Pageable pageable = PageRequest.of(0, 1);
+        Sort sort = Sort.by("id");
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        KeysetScrollPosition nextPosition = ScrollPosition.forward(Map.of("id", 1L));
+        Specification<Book> spec = mock(Specification.class);
+        Book book = new Book();
+        BookDto bookDto = new BookDto();
+        Window<Book> window = Window.from(List.of(book), index -> nextPosition, true);
+
+        when(bookCursorCodec.getKeysetSort(pageable.getSort())).thenReturn(sort);
+        when(bookCursorCodec.decode(null, sort)).thenReturn(position);
+        when(bookSpecificationBuilder.build(parameters)).thenReturn(spec);
+        when(bookRepository.findBy(any(Specification.class), any())).thenReturn(window);
+        when(bookMapper.toDto(book)).thenReturn(bookDto);
+        when(bookCursorCodec.encode(nextPosition)).thenReturn("next");
+        CursorPageDto<BookDto> actual = bookService.searchBooks(parameters, null, pageable);
+
+        assertEquals(List.of(bookDto), actual.content());
+        assertEquals("next", actual.nextCursor());
+    }
+
+    @Test
+    @DisplayName("""
+            Full-text search should return books in the order ranked by the index""")
+    void testFullTextSearch_WithMatchingBooks_ShouldKeepIndexRanking() {
+        Book first = new Book();
+        first.setId(2L);
+        Book second = new Book();
+        second.setId(1L);
+        BookDto firstDto = new BookDto();
+        BookDto secondDto = new BookDto();
+
+        when(bookSearchIndex.search("java", 0, 10)).thenReturn(List.of(2L, 1L));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(second, first));
+        when(bookMapper.toDto(first)).thenReturn(firstDto);
+        when(bookMapper.toDto(second)).thenReturn(secondDto);
+        List<BookDto> actual = bookService.fullTextSearch("java", PageRequest.of(0, 10));
+
+        assertEquals(List.of(firstDto, secondDto), actual);
+    }
+
+    @Test
+    @DisplayName("""
+            Multi-get should load all books at once, keep request order and report missing ids""")
+    void testFindAllByIds_WithMissingId_ShouldKeepOrderAndReportMissing() {
+        Book first = new Book();
+        first.setId(3L);
+        Book second = new Book();
+        second.setId(1L);
+        BookDto firstDto = new BookDto();
+        firstDto.setId(3L);
+        BookDto secondDto = new BookDto();
+        secondDto.setId(1L);
+
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(3L, 2L, 1L)))
+                .thenReturn(List.of(second, first));
+        when(bookMapper.toDto(first)).thenReturn(firstDto);
+        when(bookMapper.toDto(second)).thenReturn(secondDto);
+        BookBatchDto actual = bookService.findAllByIds(List.of(3L, 2L, 3L, 1L));
+
+        assertEquals(List.of(firstDto, secondDto), actual.books());
+        assertEquals(List.of(2L), actual.missingIds());
+    }
+
+    @Test
+    @DisplayName("Multi-get of a long id list should query the books in chunks")
+    void testFindAllByIds_WithLongList_ShouldQueryInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+        when(bookRepository.findAllWithCategoriesByIdIn(any())).thenReturn(List.of());
+
+        BookBatchDto actual = bookService.findAllByIds(ids);
+
+        verify(bookRepository).findAllWithCategoriesByIdIn(ids.subList(0, 1000));
+        verify(bookRepository).findAllWithCategoriesByIdIn(ids.subList(1000, 1500));
+        assertEquals(ids, actual.missingIds());
     }
 
     private CreateBookRequestDto getCreateBookRequestDto(String title, String author,
@@ -197,6 +382,10 @@ public class BookServiceTests {
         return book;
     }
 
+    private BookRow getBookRow(Long id) {
+        return new BookRow(id, "Title", "Author", "123", BigDecimal.TEN, null, null);
+    }
+
     private BookDto getBookDto(String title, String author,
                               BigDecimal price, String isbn) {
         BookDto bookDto = new BookDto();
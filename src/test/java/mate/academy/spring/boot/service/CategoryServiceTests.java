@@ -8,20 +8,26 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import mate.academy.spring.boot.dto.category.CategoryDto;
 import mate.academy.spring.boot.dto.category.CategoryRequestDto;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
 import mate.academy.spring.boot.mapper.CategoryMapper;
+import mate.academy.spring.boot.model.Book;
 import mate.academy.spring.boot.model.Category;
 import mate.academy.spring.boot.repository.category.CategoryRepository;
 import mate.academy.spring.boot.service.impl.CategoryServiceImpl;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,10 @@ public class CategoryServiceTests {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SessionFactory sessionFactory;
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -46,6 +56,24 @@ public class CategoryServiceTests {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("""
+            Test checks that categories are served from the snapshot until a write refreshes it""")
+    void testFindAllAsJson_CalledTwice_ShouldLoadSnapshotOnce() {
+        Category category = new Category();
+        CategoryDto categoryDto = new CategoryDto();
+        categoryDto.setName("Fiction");
+        when(categoryRepository.findAll()).thenReturn(List.of(category));
+        when(categoryMapper.toDto(category)).thenReturn(categoryDto);
+
+        categoryService.findAllAsJson();
+        String actual = new String(categoryService.findAllAsJson(), StandardCharsets.UTF_8);
+        categoryService.deleteById(1L);
+
+        assertEquals("[{\"id\":null,\"name\":\"Fiction\",\"description\":null}]", actual);
+        verify(categoryRepository, times(2)).findAll();
+    }
+
     @Test
     @DisplayName("""
             Test checks whether the method correctly returns a CategoryDto by ID
@@ -64,6 +92,16 @@ public class CategoryServiceTests {
         verify(categoryMapper, times(1)).toDto(category);
     }
 
+    @Test
+    @DisplayName("""
+            Test checks whether the ETag is built from the category version
+            """)
+    void testGetEtag_WithValidId_ShouldReturnVersionedEtag() {
+        when(categoryRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        assertEquals("1-4", categoryService.getEtag(1L));
+    }
+
     @Test
     @DisplayName("""
             Test checks whether the method throws EntityNotFoundException
@@ -139,6 +177,8 @@ public class CategoryServiceTests {
         categoryService.deleteById(id);
 
         verify(categoryRepository, times(1)).deleteById(id);
+        verify(sessionFactory.getCache())
+                .evictCollectionData(Book.class.getName() + ".categories");
     }
 
     private CategoryRequestDto getCategoryRequestDto(String name, String description) {
@@ -4,13 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import mate.academy.spring.boot.cart.CartItemChange;
 import mate.academy.spring.boot.dto.cartitem.CartItemDto;
+import mate.academy.spring.boot.dto.cartitem.CartItemOperationDto;
 import mate.academy.spring.boot.dto.cartitem.CartItemRequestDto;
 import mate.academy.spring.boot.dto.shoppingcart.ShoppingCartDto;
 import mate.academy.spring.boot.exception.EntityNotFoundException;
@@ -37,9 +42,9 @@ public class ShoppingCartServiceTests {
     @Mock
     private ShoppingCartMapper shoppingCartMapper;
     @Mock
-    private BookRepository bookRepository;
-    @Mock
     private CartItemRepository cartItemRepository;
+    @Mock
+    private BookRepository bookRepository;
     @InjectMocks
     private ShoppingCartServiceImpl shoppingCartService;
 
@@ -91,13 +96,16 @@ public class ShoppingCartServiceTests {
         // When
         when(shoppingCartRepository.findByUserId(user.getId()))
                 .thenReturn(Optional.of(shoppingCart));
-        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
-        when(shoppingCartRepository.save(any(ShoppingCart.class))).thenReturn(shoppingCart);
+        when(cartItemRepository.upsertQuantity(shoppingCart.getId(), book.getId(),
+                requestDto.getQuantity())).thenReturn(1);
         when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expected);
 
         // Then
         ShoppingCartDto actual = shoppingCartService.addBookToCart(user.getId(), requestDto);
         assertEquals(expected, actual);
+        verify(shoppingCartRepository, never()).save(any(ShoppingCart.class));
+        verify(shoppingCartRepository).adjustTotals(shoppingCart.getId(), book.getId(),
+                requestDto.getQuantity());
     }
 
     @Test
@@ -115,13 +123,63 @@ public class ShoppingCartServiceTests {
         // When
         when(shoppingCartRepository.findByUserId(user.getId()))
                 .thenReturn(Optional.of(shoppingCart));
-        when(bookRepository.findById(invalidBookId)).thenReturn(Optional.empty());
+        when(cartItemRepository.upsertQuantity(shoppingCart.getId(), invalidBookId,
+                requestDto.getQuantity())).thenReturn(0);
 
         // Then
         assertThrows(EntityNotFoundException.class,
                 () -> shoppingCartService.addBookToCart(user.getId(), requestDto));
     }
 
+    @Test
+    @DisplayName("Should fold batch operations into one change per book")
+    void testApplyOperations_WithRepeatedBooks_ShouldApplyFoldedChanges() {
+        // Given
+        ShoppingCart shoppingCart = new ShoppingCart();
+        shoppingCart.setId(1L);
+        List<CartItemOperationDto> operations = List.of(
+                createOperation(CartItemOperationDto.Operation.ADD, 1L, 1),
+                createOperation(CartItemOperationDto.Operation.ADD, 1L, 2),
+                createOperation(CartItemOperationDto.Operation.UPDATE, 2L, 4),
+                createOperation(CartItemOperationDto.Operation.ADD, 2L, 1),
+                createOperation(CartItemOperationDto.Operation.REMOVE, 3L, 0));
+        ShoppingCartDto expected = new ShoppingCartDto();
+
+        // When
+        when(shoppingCartRepository.findByUserId(1L)).thenReturn(Optional.of(shoppingCart));
+        when(bookRepository.findExistingIds(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expected);
+
+        // Then
+        ShoppingCartDto actual = shoppingCartService.applyOperations(1L, operations);
+        assertEquals(expected, actual);
+        verify(cartItemRepository).applyChanges(1L, List.of(
+                new CartItemChange(1L, 3, true),
+                new CartItemChange(2L, 5, false),
+                new CartItemChange(3L, 0, false)));
+        verify(shoppingCartRepository).refreshTotals(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when a book doesn't exist")
+    void testApplyOperations_WithMissingBook_ShouldThrowEntityNotFoundException() {
+        // Given
+        ShoppingCart shoppingCart = new ShoppingCart();
+        shoppingCart.setId(1L);
+        List<CartItemOperationDto> operations = List.of(
+                createOperation(CartItemOperationDto.Operation.ADD, 1L, 1),
+                createOperation(CartItemOperationDto.Operation.ADD, 99L, 1));
+
+        // When
+        when(shoppingCartRepository.findByUserId(1L)).thenReturn(Optional.of(shoppingCart));
+        when(bookRepository.findExistingIds(List.of(1L, 99L))).thenReturn(Set.of(1L));
+
+        // Then
+        assertThrows(EntityNotFoundException.class,
+                () -> shoppingCartService.applyOperations(1L, operations));
+        verify(cartItemRepository, never()).applyChanges(any(), any());
+    }
+
     @Test
     @DisplayName("Should throw EntityNotFoundException when cart item is not found")
     void testUpdateCartItemQuantity_WhenCartItemNotFound_ShouldThrowEntityNotFoundException() {
@@ -176,6 +234,8 @@ public class ShoppingCartServiceTests {
         assertNotNull(actual);
         assertEquals(expected, actual);
         assertEquals(newQuantity, cartItem.getQuantity());
+        verify(shoppingCartRepository).adjustTotals(shoppingCart.getId(), book.getId(),
+                newQuantity - quantity);
     }
 
     @Test
@@ -199,6 +259,8 @@ public class ShoppingCartServiceTests {
 
         // Then
         shoppingCartService.deleteCartItem(user.getId(), cartItem.getId());
+        verify(cartItemRepository).delete(cartItem);
+        verify(shoppingCartRepository).adjustTotals(shoppingCart.getId(), book.getId(), -2);
     }
 
     @Test
@@ -276,6 +338,15 @@ public class ShoppingCartServiceTests {
         return requestDto;
     }
 
+    private CartItemOperationDto createOperation(CartItemOperationDto.Operation operation,
+                                                 Long bookId, int quantity) {
+        CartItemOperationDto operationDto = new CartItemOperationDto();
+        operationDto.setOperation(operation);
+        operationDto.setBookId(bookId);
+        operationDto.setQuantity(quantity);
+        return operationDto;
+    }
+
     private CartItem createCartItem(Long id, ShoppingCart shoppingCart, Book book, int quantity) {
         CartItem cartItem = new CartItem();
         cartItem.setId(id);
@@ -0,0 +1,83 @@
+package mate.academy.spring.boot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import javax.imageio.ImageIO;
+import mate.academy.spring.boot.exception.InvalidCoverImageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+public class CoverImageStoreTests {
+    @TempDir
+    private Path root;
+    private CoverImageStore coverImageStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        coverImageStore = new CoverImageStore(root, 50);
+    }
+
+    @Test
+    @DisplayName("Identical uploads should be stored once under their content hash")
+    void testStore_WithSameImageTwice_ShouldReturnSameKey() throws IOException {
+        byte[] png = getPng(200, 300);
+
+        String first = coverImageStore.store(new MockMultipartFile("file", png));
+        String second = coverImageStore.store(new MockMultipartFile("file", png));
+
+        assertEquals(first, second);
+        assertTrue(first.matches("[0-9a-f]{64}\\.png"));
+        assertEquals("image/png", coverImageStore.get(first).contentType());
+        try (var files = Files.list(root)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Files that are not JPEG or PNG should be rejected")
+    void testStore_WithTextFile_ShouldThrowInvalidCoverImageException() {
+        MockMultipartFile file = new MockMultipartFile("file", "not an image".getBytes());
+
+        assertThrows(InvalidCoverImageException.class, () -> coverImageStore.store(file));
+    }
+
+    @Test
+    @DisplayName("Thumbnail should be scaled to the configured width and generated once")
+    void testGetThumbnail_CalledTwice_ShouldReuseGeneratedFile() throws IOException {
+        String key = coverImageStore.store(new MockMultipartFile("file", getPng(200, 300)));
+
+        CoverImage thumbnail = coverImageStore.getThumbnail(key);
+        Files.setLastModifiedTime(thumbnail.path(), FileTime.fromMillis(0));
+        CoverImage cached = coverImageStore.getThumbnail(key);
+
+        BufferedImage image = ImageIO.read(cached.path().toFile());
+        assertEquals(50, image.getWidth());
+        assertEquals(75, image.getHeight());
+        assertEquals(0, Files.getLastModifiedTime(cached.path()).toMillis());
+    }
+
+    @Test
+    @DisplayName("Keys that are not store keys should not resolve to files")
+    void testGet_WithExternalCoverImage_ShouldReturnNull() {
+        assertNull(coverImageStore.get("../application.properties"));
+        assertNull(coverImageStore.get("https://example.com/cover.jpg"));
+    }
+
+    private byte[] getPng(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+}
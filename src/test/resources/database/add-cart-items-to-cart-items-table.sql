@@ -2,3 +2,10 @@ INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity)
 VALUES
     (1, 3, 1, 2),
     (2, 4, 2, 1);
+
+UPDATE shopping_carts sc
+JOIN (SELECT ci.shopping_cart_id, SUM(ci.quantity) AS item_count,
+             SUM(ci.quantity * b.price) AS subtotal
+      FROM cart_items ci JOIN books b ON b.id = ci.book_id
+      GROUP BY ci.shopping_cart_id) totals ON totals.shopping_cart_id = sc.id
+SET sc.item_count = totals.item_count, sc.subtotal = totals.subtotal;
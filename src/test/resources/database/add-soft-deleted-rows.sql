@@ -0,0 +1,37 @@
+INSERT INTO users (id, email, password, first_name, last_name, is_deleted, deleted_at)
+VALUES
+    (10, 'archived@example.com', 'password', 'Old', 'User', 1, NOW() - INTERVAL 60 DAY),
+    (11, 'ordered@example.com', 'password', 'Old', 'Buyer', 1, NOW() - INTERVAL 60 DAY),
+    (12, 'recent@example.com', 'password', 'New', 'User', 1, NOW() - INTERVAL 1 DAY),
+    (13, 'active@example.com', 'password', 'Active', 'User', 0, NULL);
+INSERT INTO users_roles (user_id, role_id)
+SELECT 10, id FROM roles WHERE name = 'ROLE_USER';
+INSERT INTO books (id, title, author, price, is_deleted, deleted_at)
+VALUES
+    (20, 'Active Book', 'Author', 10.00, 0, NULL),
+    (21, 'Old Book', 'Author', 10.00, 1, NOW() - INTERVAL 60 DAY),
+    (22, 'Ordered Book', 'Author', 10.00, 1, NOW() - INTERVAL 60 DAY),
+    (23, 'Carted Book', 'Author', 10.00, 1, NOW() - INTERVAL 60 DAY),
+    (24, 'Abandoned Book', 'Author', 10.00, 1, NOW() - INTERVAL 60 DAY);
+INSERT INTO categories (id, name, is_deleted, deleted_at)
+VALUES
+    (30, 'Active Category', 0, NULL),
+    (31, 'Old Category', 1, NOW() - INTERVAL 60 DAY),
+    (32, 'Recent Category', 1, NOW() - INTERVAL 1 DAY);
+INSERT INTO books_categories (book_id, category_id)
+VALUES
+    (20, 30),
+    (20, 31),
+    (21, 30);
+INSERT INTO shopping_carts (id, user_id)
+VALUES
+    (10, 10),
+    (13, 13);
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity)
+VALUES
+    (10, 10, 24, 1),
+    (11, 13, 23, 1);
+INSERT INTO orders (id, user_id, status, total, order_time, shipping_address)
+VALUES (40, 11, 'COMPLETED', 10.00, NOW() - INTERVAL 90 DAY, 'Address');
+INSERT INTO order_items (id, order_id, book_id, quantity, price)
+VALUES (40, 40, 22, 1, 10.00);
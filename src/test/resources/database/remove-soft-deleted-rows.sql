@@ -0,0 +1,15 @@
+DELETE FROM order_items WHERE id = 40;
+DELETE FROM orders WHERE id = 40;
+DELETE FROM cart_items WHERE id IN (10, 11);
+DELETE FROM shopping_carts WHERE id IN (10, 13);
+DELETE FROM books_categories WHERE book_id BETWEEN 20 AND 24 OR category_id BETWEEN 30 AND 32;
+DELETE FROM users_roles WHERE user_id BETWEEN 10 AND 13;
+DELETE FROM users WHERE id BETWEEN 10 AND 13;
+DELETE FROM books WHERE id BETWEEN 20 AND 24;
+DELETE FROM categories WHERE id BETWEEN 30 AND 32;
+DELETE FROM users_roles_archive WHERE user_id BETWEEN 10 AND 13;
+DELETE FROM users_archive WHERE id BETWEEN 10 AND 13;
+DELETE FROM books_categories_archive WHERE book_id BETWEEN 20 AND 24
+    OR category_id BETWEEN 30 AND 32;
+DELETE FROM books_archive WHERE id BETWEEN 20 AND 24;
+DELETE FROM categories_archive WHERE id BETWEEN 30 AND 32;